@@ -0,0 +1,208 @@
+/*
+ * Copyright (C) 2004 NNL Technology AB
+ * Visit www.infonode.net for information about InfoNode(R) 
+ * products and how to contact NNL Technology AB.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, 
+ * MA 02111-1307, USA.
+ */
+
+import net.infonode.docking.*;
+import net.infonode.docking.util.DockingUtil;
+import net.infonode.docking.util.PerspectiveManager;
+import net.infonode.docking.util.StringViewMap;
+import net.infonode.util.Direction;
+import net.infonode.util.InMemoryMetricsRecorder;
+
+import javax.swing.*;
+import java.awt.*;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+/**
+ * <p>
+ * Measures the latency of switching perspectives with a {@link PerspectiveManager} and compares it with writing and
+ * reading the root window state. The root window contains a number of views in three layouts: a base layout, a layout
+ * where one view has moved and a layout where most views have moved. Each switch is measured and the results are
+ * printed as percentiles in microseconds.
+ * </p>
+ *
+ * <p>
+ * This class is not part of the library. Compile it with the library on the class path and run it with
+ * <code>java PerspectiveBenchmark [views] [iterations]</code>
+ * </p>
+ *
+ * <p>
+ * <strong>Note:</strong> This class might be changed/removed or not be compatible with future versions of IDW.
+ * </p>
+ *
+ * @author $Author: jesper $
+ * @version $Revision: 1.1 $
+ * @since IDW 1.7.0
+ */
+public class PerspectiveBenchmark {
+  private static final int WARMUP_ITERATIONS = 20;
+
+  private final View[] views;
+  private final RootWindow rootWindow;
+  private final PerspectiveManager perspectiveManager;
+  private final InMemoryMetricsRecorder recorder = new InMemoryMetricsRecorder();
+
+  private PerspectiveBenchmark(int viewCount) {
+    StringViewMap viewMap = new StringViewMap();
+    views = new View[viewCount];
+
+    for (int i = 0; i < viewCount; i++) {
+      views[i] = new View("View " + i, null, new JLabel("View " + i));
+      viewMap.addView("View " + i, views[i]);
+    }
+
+    rootWindow = DockingUtil.createRootWindow(viewMap, false);
+    rootWindow.setSize(1024, 768);
+    perspectiveManager = new PerspectiveManager(rootWindow, 3);
+  }
+
+  /**
+   * Runs the benchmark.
+   *
+   * @param args the number of views, default is 50, and the number of iterations, default is 200
+   * @throws Exception if the benchmark fails
+   */
+  public static void main(String[] args) throws Exception {
+    final int viewCount = args.length > 0 ? Integer.parseInt(args[0]) : 50;
+    final int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+
+    SwingUtilities.invokeAndWait(new Runnable() {
+      public void run() {
+        try {
+          new PerspectiveBenchmark(viewCount).run(iterations);
+        }
+        catch (IOException e) {
+          throw new RuntimeException(e);
+        }
+      }
+    });
+
+    System.exit(0);
+  }
+
+  private void run(int iterations) throws IOException {
+    JFrame frame = null;
+
+    if (!GraphicsEnvironment.isHeadless()) {
+      frame = new JFrame("Perspective Benchmark");
+      frame.getContentPane().add(rootWindow);
+      frame.setSize(1024, 768);
+      frame.setVisible(true);
+    }
+
+    setBaseLayout();
+    perspectiveManager.savePerspective("base");
+    byte[] baseState = write();
+
+    rootWindow.getWindow().getChildWindow(1).getChildWindow(0).split(views[0], Direction.RIGHT, 0.5f);
+    perspectiveManager.savePerspective("one moved");
+    byte[] oneMovedState = write();
+
+    setMostMovedLayout();
+    perspectiveManager.savePerspective("most moved");
+    byte[] mostMovedState = write();
+
+    for (int pass = 0; pass < 2; pass++) {
+      int count = pass == 0 ? WARMUP_ITERATIONS : iterations;
+      recorder.clear();
+
+      for (int i = 0; i < count; i++) {
+        switchTo("base", "switch one moved");
+        switchTo("one moved", "switch one moved");
+      }
+
+      for (int i = 0; i < count; i++) {
+        switchTo("base", "switch most moved");
+        switchTo("most moved", "switch most moved");
+      }
+
+      for (int i = 0; i < count; i++) {
+        read(baseState, "read one moved");
+        read(oneMovedState, "read one moved");
+      }
+
+      for (int i = 0; i < count; i++) {
+        read(baseState, "read most moved");
+        read(mostMovedState, "read most moved");
+      }
+    }
+
+    System.out.println(views.length + " views, " + iterations + " iterations");
+    recorder.dump(System.out);
+
+    if (frame != null)
+      frame.dispose();
+  }
+
+  /**
+   * Two tab windows side by side, the first half of the views in the left one.
+   */
+  private void setBaseLayout() {
+    int half = views.length / 2;
+    View[] left = new View[half];
+    View[] right = new View[views.length - half];
+    System.arraycopy(views, 0, left, 0, left.length);
+    System.arraycopy(views, half, right, 0, right.length);
+    rootWindow.setWindow(new SplitWindow(true, new TabWindow(left), new TabWindow(right)));
+  }
+
+  /**
+   * Four tab windows, the views are distributed between them in turn.
+   */
+  private void setMostMovedLayout() {
+    TabWindow[] tabWindows = new TabWindow[4];
+
+    for (int i = 0; i < tabWindows.length; i++)
+      tabWindows[i] = new TabWindow();
+
+    for (int i = 0; i < views.length; i++)
+      tabWindows[i % tabWindows.length].addTab(views[i]);
+
+    rootWindow.setWindow(new SplitWindow(false,
+                                         new SplitWindow(true, tabWindows[0], tabWindows[1]),
+                                         new SplitWindow(true, tabWindows[2], tabWindows[3])));
+  }
+
+  private void switchTo(String name, String metric) throws IOException {
+    long start = System.nanoTime();
+    perspectiveManager.switchTo(name);
+    rootWindow.validate();
+    recorder.recordTime(metric, System.nanoTime() - start);
+  }
+
+  private byte[] write() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    ObjectOutputStream out = new ObjectOutputStream(bytes);
+    rootWindow.write(out, false);
+    out.close();
+    return bytes.toByteArray();
+  }
+
+  private void read(byte[] state, String metric) throws IOException {
+    long start = System.nanoTime();
+    rootWindow.read(new ObjectInputStream(new ByteArrayInputStream(state)), false);
+    rootWindow.validate();
+    recorder.recordTime(metric, System.nanoTime() - start);
+  }
+}
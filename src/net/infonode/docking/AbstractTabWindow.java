@@ -35,7 +35,6 @@ import javax.swing.Icon;
 import javax.swing.JComponent;
 import javax.swing.SwingUtilities;
 
-import net.infonode.docking.drop.InsertTabDropInfo;
 import net.infonode.docking.internal.ReadContext;
 import net.infonode.docking.internal.WindowAncestors;
 import net.infonode.docking.internal.WriteContext;
@@ -503,7 +502,7 @@ abstract public class AbstractTabWindow extends DockingWindow {
         tabbedPanel.moveTab(window.getTab(), p2);
       }
       else {
-        if (!getInsertTabDropFilter().acceptDrop(new InsertTabDropInfo(window, this, p)))
+        if (!acceptsInsertTabDrop(window, p))
           return null;
 
         if (dragTab == null) {
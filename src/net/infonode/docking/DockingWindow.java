@@ -24,9 +24,7 @@
 package net.infonode.docking;
 
 import net.infonode.docking.drag.DockingWindowDragger;
-import net.infonode.docking.drop.ChildDropInfo;
-import net.infonode.docking.drop.DropFilter;
-import net.infonode.docking.drop.SplitDropInfo;
+import net.infonode.docking.drop.*;
 import net.infonode.docking.internal.ReadContext;
 import net.infonode.docking.internal.WindowAncestors;
 import net.infonode.docking.internal.WriteContext;
@@ -37,6 +35,7 @@ import net.infonode.docking.model.TabWindowItem;
 import net.infonode.docking.model.ViewWriter;
 import net.infonode.docking.model.WindowItem;
 import net.infonode.docking.properties.DockingWindowProperties;
+import net.infonode.docking.properties.DockingWindowDropFilterProperties;
 import net.infonode.docking.title.DockingWindowTitleProvider;
 import net.infonode.docking.title.SimpleDockingWindowTitleProvider;
 import net.infonode.docking.util.DockingUtil;
@@ -47,6 +46,7 @@ import net.infonode.gui.panel.BasePanel;
 import net.infonode.properties.propertymap.*;
 import net.infonode.util.ArrayUtil;
 import net.infonode.util.Direction;
+import net.infonode.util.MetricsRecorder;
 
 import javax.swing.*;
 import java.awt.*;
@@ -73,6 +73,12 @@ import java.util.Map;
 abstract public class DockingWindow extends BasePanel {
   private static int DROP_FLOATING_YOFFSET = 10;
 
+  private static final int SPLIT_DROP_FILTER = 0;
+  private static final int CHILD_DROP_FILTER = 1;
+  private static final int INTERIOR_DROP_FILTER = 2;
+  private static final int INSERT_TAB_DROP_FILTER = 3;
+  static final int DROP_FILTER_COUNT = 4;
+
   /**
    * Returns the icon for this window.
    *
@@ -217,6 +223,18 @@ abstract public class DockingWindow extends BasePanel {
     }
   }
 
+  /**
+   * Recreates the model of this window and all its descendants from the window tree.
+   */
+  final void recreateWindowItems() {
+    windowItem.clearWindows();
+
+    for (int i = 0; i < getChildWindowCount(); i++) {
+      updateWindowItem(getChildWindow(i));
+      getChildWindow(i).recreateWindowItems();
+    }
+  }
+
   /**
    * <p>
    * Sets the preferred minimize direction of this window. If the {@link WindowBar} in this direction is enabled this
@@ -379,6 +397,13 @@ abstract public class DockingWindow extends BasePanel {
   public SplitWindow split(final DockingWindow splitWithWindow,
                            final Direction direction,
                            final float dividerLocation) {
+    // This window might not have a root window until the split is done
+    MetricsRecorder metrics = getMetricsRecorder();
+
+    if (metrics == null)
+      metrics = splitWithWindow.getMetricsRecorder();
+
+    long start = metrics == null ? 0 : System.nanoTime();
     final SplitWindow w = new SplitWindow(direction == Direction.RIGHT || direction == Direction.LEFT);
 
     optimizeAfter(splitWithWindow.getWindowParent(), new Runnable() {
@@ -392,6 +417,9 @@ abstract public class DockingWindow extends BasePanel {
       }
     });
 
+    if (metrics != null)
+      metrics.recordTime("docking.split", System.nanoTime() - start);
+
     return w;
   }
 
@@ -445,6 +473,14 @@ abstract public class DockingWindow extends BasePanel {
    * that the window is shown anywhere after this method has returned.
    */
   public void restore() {
+    // A closed window has no root window until it's restored
+    MetricsRecorder metrics = getMetricsRecorder();
+
+    if (metrics == null && lastRootWindow.get() != null)
+      metrics = ((RootWindow) lastRootWindow.get()).getMetricsRecorder();
+
+    long start = metrics == null ? 0 : System.nanoTime();
+
     if (isMaximized())
       doRestoreFromMaximize();
     else if (isMinimized() || getRootWindow() == null) {
@@ -473,6 +509,9 @@ abstract public class DockingWindow extends BasePanel {
     }
 
     updateButtonVisibility();
+
+    if (metrics != null)
+      metrics.recordTime("docking.restore", System.nanoTime() - start);
   }
 
   private DockingWindow doRestoreFromMaximize() {
@@ -517,6 +556,8 @@ abstract public class DockingWindow extends BasePanel {
    */
   public void close() {
     if (windowParent != null) {
+      MetricsRecorder metrics = getMetricsRecorder();
+      long start = metrics == null ? 0 : System.nanoTime();
       DockingWindow[] ancestors = getAncestors();
       optimizeAfter(windowParent, new Runnable() {
         public void run() {
@@ -526,6 +567,9 @@ abstract public class DockingWindow extends BasePanel {
 
       for (int i = ancestors.length - 1; i >= 0; i--)
         ancestors[i].fireWindowClosed(this);
+
+      if (metrics != null)
+        metrics.recordTime("docking.close", System.nanoTime() - start);
     }
   }
 
@@ -687,6 +731,9 @@ abstract public class DockingWindow extends BasePanel {
    * @since IDW 1.1.0
    */
   public final void maximize() {
+    MetricsRecorder metrics = getMetricsRecorder();
+    long start = metrics == null ? 0 : System.nanoTime();
+
     if (isUndocked()) {
       FloatingWindow w = DockingUtil.getFloatingWindowFor(this);
 
@@ -701,6 +748,9 @@ abstract public class DockingWindow extends BasePanel {
     }
 
     updateButtonVisibility();
+
+    if (metrics != null)
+      metrics.recordTime("docking.maximize", System.nanoTime() - start);
   }
 
   /**
@@ -1441,7 +1491,12 @@ abstract public class DockingWindow extends BasePanel {
 
         for (Iterator it = s.iterator(); it.hasNext();) {
           DockingWindow window = (DockingWindow) it.next();
+          MetricsRecorder metrics = window.getMetricsRecorder();
+          long start = metrics == null ? 0 : System.nanoTime();
           window.optimizeWindowLayout();
+
+          if (metrics != null)
+            metrics.recordTime("docking.optimizeWindowLayout", System.nanoTime() - start);
         }
       }
     }
@@ -1451,6 +1506,9 @@ abstract public class DockingWindow extends BasePanel {
  *
    */
   protected static void optimizeAfter(final DockingWindow window, final Runnable runnable) {
+    MetricsRecorder metrics = window == null ? null : window.getMetricsRecorder();
+    long start = metrics == null ? 0 : System.nanoTime();
+
     FocusManager.getInstance().pinFocus(new Runnable() {
       public void run() {
         beginOptimize(window);
@@ -1463,6 +1521,19 @@ abstract public class DockingWindow extends BasePanel {
         }
       }
     });
+
+    if (metrics != null)
+      metrics.recordTime("docking.optimizeAfter", System.nanoTime() - start);
+  }
+
+  /**
+   * Returns the metrics recorder of the root window containing this window.
+   *
+   * @return the metrics recorder, null if there is none or this window has no root window
+   */
+  MetricsRecorder getMetricsRecorder() {
+    RootWindow rootWindow = getRootWindow();
+    return rootWindow == null ? null : rootWindow.getMetricsRecorder();
   }
 
   /**
@@ -1710,7 +1781,7 @@ abstract public class DockingWindow extends BasePanel {
     if (splitDistance != -1 && dist > splitDistance * getEdgeDepth(splitDir))
       return null;
 
-    if (getSplitDropFilter().acceptDrop(new SplitDropInfo(window, this, p, splitDir)))
+    if (acceptsSplitDrop(window, p, splitDir))
       return split(window, splitDir);
 
     return null;
@@ -1836,7 +1907,7 @@ abstract public class DockingWindow extends BasePanel {
       DockingWindow childWindow = getChildWindow(i);
       Point p2 = SwingUtilities.convertPoint(this, p, childWindow);
 
-      if (getChildDropFilter().acceptDrop(new ChildDropInfo(window, this, p, childWindow))) {
+      if (acceptsChildDrop(window, p, childWindow)) {
         DropAction da = childWindow.acceptDrop(p2, window);
 
         if (da != null)
@@ -2063,18 +2134,70 @@ abstract public class DockingWindow extends BasePanel {
 	}*/
 
   DropFilter getSplitDropFilter() {
-    return getWindowProperties().getDropFilterProperties().getSplitDropFilter();
+    return getDropFilter(SPLIT_DROP_FILTER);
   }
 
   DropFilter getChildDropFilter() {
-    return getWindowProperties().getDropFilterProperties().getChildDropFilter();
+    return getDropFilter(CHILD_DROP_FILTER);
   }
 
   DropFilter getInteriorDropFilter() {
-    return getWindowProperties().getDropFilterProperties().getInteriorDropFilter();
+    return getDropFilter(INTERIOR_DROP_FILTER);
   }
 
   DropFilter getInsertTabDropFilter() {
-    return getWindowProperties().getDropFilterProperties().getInsertTabDropFilter();
+    return getDropFilter(INSERT_TAB_DROP_FILTER);
+  }
+
+  boolean acceptsSplitDrop(DockingWindow window, Point p, Direction splitDir) {
+    DropFilter filter = getSplitDropFilter();
+    return filter == AcceptAllDropFilter.INSTANCE ||
+           (filter != RejectAllDropFilter.INSTANCE && filter.acceptDrop(new SplitDropInfo(window, this, p, splitDir)));
+  }
+
+  boolean acceptsChildDrop(DockingWindow window, Point p, DockingWindow childWindow) {
+    DropFilter filter = getChildDropFilter();
+    return filter == AcceptAllDropFilter.INSTANCE ||
+           (filter != RejectAllDropFilter.INSTANCE && filter.acceptDrop(new ChildDropInfo(window, this, p, childWindow)));
+  }
+
+  boolean acceptsInteriorDrop(DockingWindow window, Point p) {
+    DropFilter filter = getInteriorDropFilter();
+    return filter == AcceptAllDropFilter.INSTANCE ||
+           (filter != RejectAllDropFilter.INSTANCE && filter.acceptDrop(new InteriorDropInfo(window, this, p)));
+  }
+
+  boolean acceptsInsertTabDrop(DockingWindow window, Point p) {
+    DropFilter filter = getInsertTabDropFilter();
+    return filter == AcceptAllDropFilter.INSTANCE ||
+           (filter != RejectAllDropFilter.INSTANCE && filter.acceptDrop(new InsertTabDropInfo(window, this, p)));
+  }
+
+  private DropFilter getDropFilter(int type) {
+    RootWindow rootWindow = getRootWindow();
+    DropFilter[] filters = rootWindow == null ? null : rootWindow.getDragDropFilters(this);
+
+    if (filters == null)
+      return lookupDropFilter(type);
+
+    if (filters[type] == null)
+      filters[type] = lookupDropFilter(type);
+
+    return filters[type];
+  }
+
+  private DropFilter lookupDropFilter(int type) {
+    DockingWindowDropFilterProperties properties = getWindowProperties().getDropFilterProperties();
+
+    switch (type) {
+      case SPLIT_DROP_FILTER:
+        return properties.getSplitDropFilter();
+      case CHILD_DROP_FILTER:
+        return properties.getChildDropFilter();
+      case INTERIOR_DROP_FILTER:
+        return properties.getInteriorDropFilter();
+      default:
+        return properties.getInsertTabDropFilter();
+    }
   }
 }
@@ -0,0 +1,146 @@
+/*
+ * Copyright (C) 2004 NNL Technology AB
+ * Visit www.infonode.net for information about InfoNode(R)
+ * products and how to contact NNL Technology AB.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston,
+ * MA 02111-1307, USA.
+ */
+
+
+package net.infonode.docking;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.ArrayList;
+
+/**
+ * An index of the bounds of the visible docking windows inside a root pane, used to find the deepest window at a point
+ * during drag and drop. The windows are stored in the order they are visited by a depth first search that checks the
+ * children before the parent, so the first window in the index that contains the point is the same window as the one
+ * found by searching the component tree. The root pane area is divided into a grid of cells, each containing the
+ * windows that intersect it, so that only a few windows have to be checked for each point.
+ *
+ * @author $Author: jesper $
+ * @version $Revision: 1.1 $
+ */
+class DockingWindowBoundsIndex {
+  private static final int GRID_SIZE = 16;
+
+  private final RootWindow rootWindow;
+  private final JRootPane rootPane;
+  private final int width;
+  private final int height;
+  private final int cellWidth;
+  private final int cellHeight;
+
+  private final ArrayList windows = new ArrayList();
+  private final ArrayList bounds = new ArrayList();
+  private final int[][] cells = new int[GRID_SIZE * GRID_SIZE][];
+
+  DockingWindowBoundsIndex(RootWindow rootWindow, JRootPane rootPane) {
+    this.rootWindow = rootWindow;
+    this.rootPane = rootPane;
+    width = rootPane.getWidth();
+    height = rootPane.getHeight();
+    cellWidth = Math.max(1, (width + GRID_SIZE - 1) / GRID_SIZE);
+    cellHeight = Math.max(1, (height + GRID_SIZE - 1) / GRID_SIZE);
+
+    addComponent(rootPane, 0, 0, new Rectangle(0, 0, width, height));
+    buildCells();
+  }
+
+  JRootPane getRootPane() {
+    return rootPane;
+  }
+
+  /**
+   * Returns the deepest docking window at a point.
+   *
+   * @param x the x coordinate relative to the root pane
+   * @param y the y coordinate relative to the root pane
+   * @return the deepest docking window at the point, null if there is no window at the point
+   */
+  DockingWindow getWindowAt(int x, int y) {
+    if (x < 0 || y < 0 || x >= width || y >= height)
+      return null;
+
+    int[] cell = cells[Math.min(y / cellHeight, GRID_SIZE - 1) * GRID_SIZE + Math.min(x / cellWidth, GRID_SIZE - 1)];
+
+    if (cell == null)
+      return null;
+
+    for (int i = 0; i < cell.length; i++) {
+      if (((Rectangle) bounds.get(cell[i])).contains(x, y))
+        return (DockingWindow) windows.get(cell[i]);
+    }
+
+    return null;
+  }
+
+  private void addComponent(Component component, int x, int y, Rectangle clip) {
+    if (!component.isVisible())
+      return;
+
+    Rectangle r = clip.intersection(new Rectangle(x, y, component.getWidth(), component.getHeight()));
+
+    if (r.isEmpty())
+      return;
+
+    if (component instanceof Container) {
+      Component[] components = ((Container) component).getComponents();
+
+      for (int i = 0; i < components.length; i++)
+        addComponent(components[i], x + components[i].getX(), y + components[i].getY(), r);
+    }
+
+    if (component instanceof DockingWindow && ((DockingWindow) component).getRootWindow() == rootWindow) {
+      windows.add(component);
+      bounds.add(r);
+    }
+  }
+
+  private void buildCells() {
+    int[] counts = new int[cells.length];
+
+    for (int pass = 0; pass < 2; pass++) {
+      for (int i = 0; i < bounds.size(); i++) {
+        Rectangle r = (Rectangle) bounds.get(i);
+        int x1 = Math.min(r.x / cellWidth, GRID_SIZE - 1);
+        int x2 = Math.min((r.x + r.width - 1) / cellWidth, GRID_SIZE - 1);
+        int y1 = Math.min(r.y / cellHeight, GRID_SIZE - 1);
+        int y2 = Math.min((r.y + r.height - 1) / cellHeight, GRID_SIZE - 1);
+
+        for (int cy = y1; cy <= y2; cy++) {
+          for (int cx = x1; cx <= x2; cx++) {
+            int cell = cy * GRID_SIZE + cx;
+
+            if (pass == 0)
+              counts[cell]++;
+            else
+              cells[cell][cells[cell].length - counts[cell]--] = i;
+          }
+        }
+      }
+
+      if (pass == 0) {
+        for (int i = 0; i < cells.length; i++) {
+          if (counts[i] > 0)
+            cells[i] = new int[counts[i]];
+        }
+      }
+    }
+  }
+}
@@ -23,8 +23,6 @@
 // $Id: FloatingWindow.java,v 1.51 2007/01/28 21:25:09 jesper Exp $
 package net.infonode.docking;
 
-import net.infonode.docking.drop.ChildDropInfo;
-import net.infonode.docking.drop.InteriorDropInfo;
 import net.infonode.docking.internal.ReadContext;
 import net.infonode.docking.internal.WindowAncestors;
 import net.infonode.docking.internal.WriteContext;
@@ -36,7 +34,7 @@ import net.infonode.docking.properties.DockingWindowProperties;
 import net.infonode.docking.properties.FloatingWindowProperties;
 import net.infonode.docking.properties.SplitWindowProperties;
 import net.infonode.docking.util.DockingUtil;
-import net.infonode.gui.ComponentUtil;
+import net.infonode.gui.AWTEventRouter;
 import net.infonode.gui.layout.StretchLayout;
 import net.infonode.gui.panel.SimplePanel;
 import net.infonode.gui.shaped.panel.ShapedPanel;
@@ -170,15 +168,10 @@ public class FloatingWindow extends DockingWindow {
       try {
         awtMouseEventListener = new AWTEventListener() {
           public void eventDispatched(AWTEvent event) {
-            if (event.getID() == MouseEvent.MOUSE_ENTERED) {
-              Component c = (Component) event.getSource();
-              if (ComponentUtil.getTopLevelAncestor(c) == dialog) {
-                getRootWindow().setCurrentDragRootPane(getRootPane());
-              }
-            }
+            getRootWindow().setCurrentDragRootPane(getRootPane());
           }
         };
-        Toolkit.getDefaultToolkit().addAWTEventListener(awtMouseEventListener, AWTEvent.MOUSE_EVENT_MASK);
+        AWTEventRouter.addWindowListener(dialog, awtMouseEventListener, MouseEvent.MOUSE_ENTERED);
       }
       catch (SecurityException e) {
         awtMouseEventListener = null;
@@ -330,13 +323,8 @@ public class FloatingWindow extends DockingWindow {
     if (rw != null)
       rw.removeFloatingWindow(this);
 
-    try {
-      if (awtMouseEventListener != null)
-        Toolkit.getDefaultToolkit().removeAWTEventListener(awtMouseEventListener);
-    }
-    catch (SecurityException e) {
-      // Ignore
-    }
+    if (awtMouseEventListener != null)
+      AWTEventRouter.removeWindowListener(dialog, awtMouseEventListener);
   }
 
   public Icon getIcon() {
@@ -369,6 +357,13 @@ public class FloatingWindow extends DockingWindow {
     //rp.getLayeredPane().remove(dragPanel);
   }
 
+  protected void validateTree() {
+    super.validateTree();
+
+    if (getRootWindow() != null)
+      getRootWindow().invalidateBoundsIndex();
+  }
+
   JPanel getDragPanel() {
     return dragPanel;
   }
@@ -489,9 +484,7 @@ public class FloatingWindow extends DockingWindow {
       Point p2 = SwingUtilities.convertPoint(this, p, dropWindow);
 
       if (dropWindow.contains(p2)) {
-        return getChildDropFilter().acceptDrop(new ChildDropInfo(window, this, p, dropWindow)) ?
-               dropWindow.acceptDrop(p2, window) :
-               null;
+        return acceptsChildDrop(window, p, dropWindow) ? dropWindow.acceptDrop(p2, window) : null;
       }
     }
 
@@ -504,7 +497,7 @@ public class FloatingWindow extends DockingWindow {
 
     getRootWindow().setDragRectangle(null);
 
-    if (getInteriorDropFilter().acceptDrop(new InteriorDropInfo(window, this, p)))
+    if (acceptsInteriorDrop(window, p))
       return new DropAction() {
         public void execute(DockingWindow window, MouseEvent mouseEvent) {
           setWindow(window);
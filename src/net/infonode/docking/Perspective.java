@@ -0,0 +1,357 @@
+/*
+ * Copyright (C) 2004 NNL Technology AB
+ * Visit www.infonode.net for information about InfoNode(R) 
+ * products and how to contact NNL Technology AB.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, 
+ * MA 02111-1307, USA.
+ */
+
+
+package net.infonode.docking;
+
+import net.infonode.util.ArrayUtil;
+import net.infonode.util.Direction;
+
+import java.io.*;
+import java.util.Arrays;
+import java.util.HashSet;
+
+/**
+ * <p>
+ * An immutable snapshot of the window layout in a root window. A perspective contains the layout of the top level
+ * window, the windows in the window bars, the maximized view and optionally the root window property values.
+ * Floating windows are not part of a perspective, they are closed when a perspective is applied.
+ * </p>
+ *
+ * <p>
+ * A perspective is applied to a root window using {@link #apply(RootWindow)}. The windows already in the root window
+ * are reused, see {@link RootWindow#setWindowLayout(WindowLayout)}, and no streams are involved. The time of a switch
+ * is dominated by the number of windows that are moved, so switching between perspectives that differ in a few views
+ * is faster than writing and reading the root window state, but a switch where most views move is not.
+ * </p>
+ *
+ * @author $Author: jesper $
+ * @version $Revision: 1.1 $
+ * @see net.infonode.docking.util.PerspectiveManager
+ * @since IDW 1.7.0
+ */
+public final class Perspective {
+  private static final int SERIALIZE_VERSION = 1;
+
+  private static final int NO_WINDOW = 0;
+  private static final int VIEW_WINDOW = 1;
+  private static final int TAB_WINDOW = 2;
+  private static final int SPLIT_WINDOW = 3;
+
+  private final WindowLayout windowLayout;
+  private final WindowLayout[][] windowBarLayouts;
+  private final int[] windowBarSelectedIndices;
+  private final View maximizedView;
+  private final byte[] rootWindowProperties;
+
+  private Perspective(WindowLayout windowLayout, WindowLayout[][] windowBarLayouts, int[] windowBarSelectedIndices,
+                      View maximizedView, byte[] rootWindowProperties) {
+    this.windowLayout = windowLayout;
+    this.windowBarLayouts = windowBarLayouts;
+    this.windowBarSelectedIndices = windowBarSelectedIndices;
+    this.maximizedView = maximizedView;
+    this.rootWindowProperties = rootWindowProperties;
+  }
+
+  /**
+   * Captures the perspective of a root window.
+   *
+   * @param rootWindow        the root window
+   * @param includeProperties true if the root window property values should be included in the perspective
+   * @return the perspective
+   */
+  public static Perspective capture(RootWindow rootWindow, boolean includeProperties) {
+    Direction[] directions = Direction.values();
+    WindowLayout[][] windowBarLayouts = new WindowLayout[directions.length][];
+    int[] windowBarSelectedIndices = new int[directions.length];
+
+    for (int i = 0; i < directions.length; i++) {
+      WindowBar windowBar = rootWindow.getWindowBar(directions[i]);
+      windowBarLayouts[i] = new WindowLayout[windowBar.getChildWindowCount()];
+
+      for (int j = 0; j < windowBarLayouts[i].length; j++)
+        windowBarLayouts[i][j] = WindowLayout.capture(windowBar.getChildWindow(j));
+
+      windowBarSelectedIndices[i] = windowBar.getChildWindowIndex(windowBar.getSelectedWindow());
+    }
+
+    DockingWindow maximized = rootWindow.getMaximizedWindow();
+
+    return new Perspective(WindowLayout.capture(rootWindow.getWindow()),
+                           windowBarLayouts,
+                           windowBarSelectedIndices,
+                           maximized instanceof View ? (View) maximized : null,
+                           includeProperties ? writeProperties(rootWindow) : null);
+  }
+
+  private static byte[] writeProperties(RootWindow rootWindow) {
+    try {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      ObjectOutputStream out = new ObjectOutputStream(bytes);
+      rootWindow.getRootWindowProperties().getMap().write(out, true);
+      out.close();
+      return bytes.toByteArray();
+    }
+    catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Returns the layout of the top level window.
+   *
+   * @return the layout of the top level window, null if there is no top level window
+   */
+  public WindowLayout getWindowLayout() {
+    return windowLayout;
+  }
+
+  /**
+   * Returns true if this perspective contains the root window property values.
+   *
+   * @return true if this perspective contains the root window property values
+   */
+  public boolean hasProperties() {
+    return rootWindowProperties != null;
+  }
+
+  /**
+   * <p>
+   * Applies this perspective to a root window. The changes are made in one property map batch and the window tree is
+   * optimized once after all changes. The floating windows in the root window are closed, the views in them that are
+   * part of this perspective are moved to their places in the perspective.
+   * </p>
+   *
+   * <p>
+   * The root window property values are only changed if this perspective contains property values that differ from
+   * the current values.
+   * </p>
+   *
+   * @param rootWindow the root window
+   */
+  public void apply(final RootWindow rootWindow) {
+    DockingWindow.optimizeAfter(null, new Runnable() {
+      public void run() {
+        rootWindow.setMaximizedWindow(null);
+        rootWindow.closeFloatingWindows();
+        rootWindow.setWindowLayout(windowLayout);
+        Direction[] directions = Direction.values();
+
+        for (int i = 0; i < directions.length; i++)
+          applyWindowBar(rootWindow.getWindowBar(directions[i]), windowBarLayouts[i], windowBarSelectedIndices[i]);
+
+        if (rootWindowProperties != null && !Arrays.equals(rootWindowProperties, writeProperties(rootWindow)))
+          readProperties(rootWindow);
+      }
+    });
+
+    rootWindow.recreateTopWindowItems();
+
+    if (maximizedView != null && maximizedView.getRootWindow() == rootWindow)
+      rootWindow.setMaximizedWindow(maximizedView);
+  }
+
+  private static void applyWindowBar(WindowBar windowBar, WindowLayout[] layouts, int selectedIndex) {
+    HashSet reusable = new HashSet();
+    WindowLayout.getReusableWindows(windowBar, reusable);
+    reusable.remove(windowBar);
+    DockingWindow[] windows = new DockingWindow[layouts.length];
+
+    for (int i = 0; i < layouts.length; i++)
+      windows[i] = layouts[i].apply(reusable);
+
+    for (int i = windowBar.getChildWindowCount() - 1; i >= 0; i--)
+      if (!ArrayUtil.contains(windows, windowBar.getChildWindow(i)))
+        windowBar.removeChildWindow(windowBar.getChildWindow(i));
+
+    for (int i = 0; i < windows.length; i++)
+      if (i >= windowBar.getChildWindowCount() || windowBar.getChildWindow(i) != windows[i])
+        windowBar.addTabNoSelect(windows[i], i);
+
+    windowBar.setSelectedTab(selectedIndex);
+  }
+
+  private void readProperties(RootWindow rootWindow) {
+    try {
+      rootWindow.getRootWindowProperties().getMap().clear(true);
+      rootWindow.getRootWindowProperties().getMap().read(
+          new ObjectInputStream(new ByteArrayInputStream(rootWindowProperties)));
+    }
+    catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Writes this perspective to a stream.
+   *
+   * @param out            the stream on which to write the perspective
+   * @param viewSerializer used to write the views
+   * @throws IOException if there is a stream error
+   */
+  public void write(ObjectOutputStream out, ViewSerializer viewSerializer) throws IOException {
+    out.writeInt(SERIALIZE_VERSION);
+    writeLayout(windowLayout, out, viewSerializer);
+    out.writeInt(windowBarLayouts.length);
+
+    for (int i = 0; i < windowBarLayouts.length; i++) {
+      out.writeInt(windowBarLayouts[i].length);
+
+      for (int j = 0; j < windowBarLayouts[i].length; j++)
+        writeLayout(windowBarLayouts[i][j], out, viewSerializer);
+
+      out.writeInt(windowBarSelectedIndices[i]);
+    }
+
+    writeLayout(maximizedView == null ? null : WindowLayout.view(maximizedView), out, viewSerializer);
+    out.writeBoolean(rootWindowProperties != null);
+
+    if (rootWindowProperties != null) {
+      out.writeInt(rootWindowProperties.length);
+      out.write(rootWindowProperties);
+    }
+  }
+
+  private static void writeLayout(WindowLayout layout, ObjectOutputStream out, ViewSerializer viewSerializer)
+      throws IOException {
+    if (layout == null)
+      out.writeInt(NO_WINDOW);
+    else if (layout.getView() != null) {
+      out.writeInt(VIEW_WINDOW);
+      viewSerializer.writeView(layout.getView(), out);
+    }
+    else {
+      out.writeInt(layout.isTabWindow() ? TAB_WINDOW : SPLIT_WINDOW);
+
+      if (layout.isTabWindow())
+        out.writeInt(layout.getSelectedIndex());
+      else {
+        out.writeBoolean(layout.isHorizontal());
+        out.writeFloat(layout.getDividerLocation());
+      }
+
+      out.writeInt(layout.getChildCount());
+
+      for (int i = 0; i < layout.getChildCount(); i++)
+        writeLayout(layout.getChild(i), out, viewSerializer);
+    }
+  }
+
+  /**
+   * Reads a perspective written by {@link #write(ObjectOutputStream, ViewSerializer)}. Views that can't be resolved by
+   * the view serializer are left out of the perspective.
+   *
+   * @param in             the stream from which to read the perspective
+   * @param viewSerializer used to read the views
+   * @return the perspective
+   * @throws IOException if there is a stream error
+   */
+  public static Perspective read(ObjectInputStream in, ViewSerializer viewSerializer) throws IOException {
+    if (in.readInt() > SERIALIZE_VERSION)
+      throw new IOException("Can't read perspective because it was written by a later version!");
+
+    HashSet views = new HashSet();
+    WindowLayout windowLayout = readLayout(in, viewSerializer, views);
+    WindowLayout[][] windowBarLayouts = new WindowLayout[in.readInt()][];
+    int[] windowBarSelectedIndices = new int[windowBarLayouts.length];
+
+    for (int i = 0; i < windowBarLayouts.length; i++) {
+      WindowLayout[] layouts = new WindowLayout[in.readInt()];
+      int count = 0;
+
+      for (int j = 0; j < layouts.length; j++) {
+        WindowLayout layout = readLayout(in, viewSerializer, views);
+
+        if (layout != null)
+          layouts[count++] = layout;
+      }
+
+      windowBarLayouts[i] = new WindowLayout[count];
+      System.arraycopy(layouts, 0, windowBarLayouts[i], 0, count);
+      windowBarSelectedIndices[i] = Math.min(in.readInt(), count - 1);
+    }
+
+    WindowLayout maximized = readLayout(in, viewSerializer, new HashSet());
+    byte[] rootWindowProperties = null;
+
+    if (in.readBoolean()) {
+      rootWindowProperties = new byte[in.readInt()];
+      in.readFully(rootWindowProperties);
+    }
+
+    if (windowBarLayouts.length != Direction.values().length)
+      throw new IOException("Invalid number of window bars!");
+
+    return new Perspective(windowLayout,
+                           windowBarLayouts,
+                           windowBarSelectedIndices,
+                           maximized == null ? null : maximized.getView(),
+                           rootWindowProperties);
+  }
+
+  private static WindowLayout readLayout(ObjectInputStream in, ViewSerializer viewSerializer, HashSet views)
+      throws IOException {
+    int type = in.readInt();
+
+    switch (type) {
+      case NO_WINDOW:
+        return null;
+
+      case VIEW_WINDOW:
+        View view = viewSerializer.readView(in);
+        return view == null || !views.add(view) ? null : WindowLayout.view(view);
+
+      case TAB_WINDOW:
+      case SPLIT_WINDOW:
+        int selectedIndex = type == TAB_WINDOW ? in.readInt() : -1;
+        boolean horizontal = type == SPLIT_WINDOW && in.readBoolean();
+        float dividerLocation = type == SPLIT_WINDOW ? in.readFloat() : 0;
+        WindowLayout[] children = new WindowLayout[in.readInt()];
+        int count = 0;
+
+        for (int i = 0; i < children.length; i++) {
+          WindowLayout child = readLayout(in, viewSerializer, views);
+
+          if (child != null)
+            children[count++] = child;
+          else if (i < selectedIndex)
+            selectedIndex--;
+          else if (i == selectedIndex)
+            selectedIndex = -1;
+        }
+
+        if (type == TAB_WINDOW) {
+          if (count == 0)
+            return null;
+
+          WindowLayout[] c = new WindowLayout[count];
+          System.arraycopy(children, 0, c, 0, count);
+          return WindowLayout.tab(c, selectedIndex);
+        }
+
+        return count == 2 ? WindowLayout.split(horizontal, dividerLocation, children[0], children[1]) :
+               count == 1 ? children[0] : null;
+
+      default:
+        throw new IOException("Invalid window type " + type + "!");
+    }
+  }
+}
@@ -32,12 +32,14 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 
 import javax.swing.*;
 
 import net.infonode.docking.action.*;
-import net.infonode.docking.drop.ChildDropInfo;
-import net.infonode.docking.drop.InteriorDropInfo;
+import net.infonode.docking.drop.DropFilter;
 import net.infonode.docking.internal.HeavyWeightContainer;
 import net.infonode.docking.internal.HeavyWeightDragRectangle;
 import net.infonode.docking.internal.ReadContext;
@@ -61,6 +63,7 @@ import net.infonode.properties.propertymap.PropertyMap;
 import net.infonode.properties.propertymap.PropertyMapManager;
 import net.infonode.util.ArrayUtil;
 import net.infonode.util.Direction;
+import net.infonode.util.MetricsRecorder;
 import net.infonode.util.Readable;
 import net.infonode.util.Writable;
 
@@ -183,6 +186,9 @@ public class RootWindow extends DockingWindow implements Readable, Writable {
 
   private final Component dragRectangle;
   private JRootPane currentDragRootPane;
+  private DockingWindowBoundsIndex boundsIndex;
+  private MetricsRecorder metricsRecorder;
+  private IdentityHashMap dragDropFilters;
 
   /**
    * Creates an empty root window.
@@ -371,6 +377,36 @@ public class RootWindow extends DockingWindow implements Readable, Writable {
     focusedWindows.clear();
   }
 
+  /**
+   * Returns the recorder that receives measurements of the docking operations in this root window.
+   *
+   * @return the metrics recorder, null if there is none
+   * @since IDW 1.7.0
+   */
+  public MetricsRecorder getMetricsRecorder() {
+    return metricsRecorder;
+  }
+
+  /**
+   * <p>
+   * Sets the recorder that receives measurements of the docking operations in this root window. The durations of split,
+   * close, restore, maximize, layout reads, layout optimizations and drag and drop hit tests are recorded. When the
+   * recorder is null, which is the default, no measurements are made.
+   * </p>
+   *
+   * <p>
+   * Property change notifications and component painting are not associated with a root window, they are recorded by
+   * the global recorder set with {@link net.infonode.util.Metrics#setRecorder(MetricsRecorder)}.
+   * </p>
+   *
+   * @param metricsRecorder the metrics recorder, null disables the measurements
+   * @see net.infonode.util.InMemoryMetricsRecorder
+   * @since IDW 1.7.0
+   */
+  public void setMetricsRecorder(MetricsRecorder metricsRecorder) {
+    this.metricsRecorder = metricsRecorder;
+  }
+
   /**
    * Returns the property values for this root window. The property values will be inherited to docking windows inside
    * this root window.
@@ -439,6 +475,19 @@ public class RootWindow extends DockingWindow implements Readable, Writable {
       replaceChildWindow(window, newWindow);
   }
 
+  /**
+   * Recreates the model of the top level window from the window tree, like when a new window tree is set. The model of
+   * a window isn't updated while the window is outside the root window, so it's recreated after windows have been
+   * reused by {@link #setWindowLayout(WindowLayout)}.
+   */
+  void recreateTopWindowItems() {
+    if (window != null && getUpdateModel()) {
+      getWindowItem().removeAll();
+      getWindowItem().addWindow(window.getWindowItem());
+      window.recreateWindowItems();
+    }
+  }
+
   /**
    * Returns the top level docking window inside this root window.
    *
@@ -448,6 +497,67 @@ public class RootWindow extends DockingWindow implements Readable, Writable {
     return window;
   }
 
+  /**
+   * Returns the layout of the top level docking window inside this root window.
+   *
+   * @return the layout of the top level docking window, null if there is no top level docking window
+   * @see WindowLayout#capture(DockingWindow)
+   * @since IDW 1.7.0
+   */
+  public WindowLayout getWindowLayout() {
+    return WindowLayout.capture(window);
+  }
+
+  /**
+   * <p>
+   * Changes the top level docking window inside this root window so that it matches a layout.
+   * </p>
+   *
+   * <p>
+   * Unlike {@link #setWindow(DockingWindow)} with a newly created window tree, the tab and split windows that are
+   * already in this root window are reused, together with their property values. Only the views that are moved, the
+   * tabs that are reordered and the split windows that are changed are updated, and the window tree is optimized once
+   * after all changes. Views in the layout that are minimized or located in a floating window are moved into the
+   * top level window. Views that are located in the top level window but not in the layout are removed from it.
+   * </p>
+   *
+   * @param layout the layout, null removes the top level window
+   * @throws IllegalArgumentException if a view occurs more than once in the layout
+   * @since IDW 1.7.0
+   */
+  public void setWindowLayout(final WindowLayout layout) {
+    if (layout == null) {
+      setWindow(null);
+      return;
+    }
+
+    final HashSet views = new HashSet();
+    layout.getViews(views);
+    long start = metricsRecorder == null ? 0 : System.nanoTime();
+
+    optimizeAfter(null, new Runnable() {
+      public void run() {
+        HashSet reusable = new HashSet();
+        WindowLayout.getReusableWindows(window, reusable);
+
+        // Reuse the title windows of views which were removed by a previously applied layout
+        for (Iterator it = views.iterator(); it.hasNext();) {
+          DockingWindow parent = ((View) it.next()).getWindowParent();
+
+          if (parent != null && parent.getWindowParent() == null && parent.getRootWindow() == null)
+            reusable.add(parent);
+        }
+
+        setWindow(layout.apply(reusable));
+      }
+    });
+
+    recreateTopWindowItems();
+
+    if (metricsRecorder != null)
+      metricsRecorder.recordTime("docking.setWindowLayout", System.nanoTime() - start);
+  }
+
   /**
    * <p>
    * Creates and shows a floating window with the given window as top-level window in the floating window or without
@@ -508,6 +618,12 @@ public class RootWindow extends DockingWindow implements Readable, Writable {
     removeWindow(fw);
   }
 
+  void closeFloatingWindows() {
+    while (floatingWindows.size() > 0) {
+      ((FloatingWindow) floatingWindows.get(0)).close();
+    }
+  }
+
   /**
    * Returns the view serializer object for the views inside this root window.
    *
@@ -752,23 +868,23 @@ public class RootWindow extends DockingWindow implements Readable, Writable {
    * @throws IOException if there is a stream error
    */
   public void read(ObjectInputStream in, boolean readProperties) throws IOException {
+    // The version is checked before the current windows are closed, so a layout that can't be read leaves this root
+    // window unchanged
+    int serializeVersion = in.readInt();
+
+    if (serializeVersion > SERIALIZE_VERSION)
+      throw new IOException(
+      "Can't read serialized data because it was written by a later version of InfoNode Docking Windows!");
+
+    boolean propertyValuesAvailable = in.readBoolean();
+    long start = metricsRecorder == null ? 0 : System.nanoTime();
     FocusManager.getInstance().startIgnoreFocusChanges();
     PropertyMapManager.getInstance().beginBatch();
 
     try {
       setWindow(null);
-
-      while (floatingWindows.size() > 0) {
-        ((FloatingWindow) floatingWindows.get(0)).close();
-      }
-
-      int serializeVersion = in.readInt();
-
-      if (serializeVersion > SERIALIZE_VERSION)
-        throw new IOException(
-        "Can't read serialized data because it was written by a later version of InfoNode Docking Windows!");
-
-      ReadContext context = new ReadContext(this, serializeVersion, in.readBoolean(), readProperties);
+      closeFloatingWindows();
+      ReadContext context = new ReadContext(this, serializeVersion, propertyValuesAvailable, readProperties);
 
       if (context.getVersion() < 3)
         oldInternalRead(in, context);
@@ -787,6 +903,9 @@ public class RootWindow extends DockingWindow implements Readable, Writable {
           FocusManager.getInstance().stopIgnoreFocusChanges();
         }
       });
+
+      if (metricsRecorder != null)
+        metricsRecorder.recordTime("docking.read", System.nanoTime() - start);
     }
   }
 
@@ -1000,6 +1119,7 @@ public class RootWindow extends DockingWindow implements Readable, Writable {
 
   void internalStartDrag(JComponent component) {
     currentDragRootPane = getRootPane();
+    dragDropFilters = new IdentityHashMap();
 
     FloatingWindow fwStartedDrag = DockingUtil.getFloatingWindowFor((DockingWindow) component);
 
@@ -1042,12 +1162,69 @@ public class RootWindow extends DockingWindow implements Readable, Writable {
 
     CursorManager.resetGlobalCursor(getCurrentDragRootPane());
     currentDragRootPane = null;
+    dragDropFilters = null;
 
     for (int i = 0; i < floatingWindows.size(); i++) {
       ((FloatingWindow) floatingWindows.get(i)).stopDrag();
     }
   }
 
+  /**
+   * Returns the drop filters of a window cached for the current drag operation.
+   *
+   * @param window the window
+   * @return the cached drop filters, null if no drag operation is in progress
+   */
+  DropFilter[] getDragDropFilters(DockingWindow window) {
+    if (dragDropFilters == null)
+      return null;
+
+    DropFilter[] filters = (DropFilter[]) dragDropFilters.get(window);
+
+    if (filters == null) {
+      filters = new DropFilter[DockingWindow.DROP_FILTER_COUNT];
+      dragDropFilters.put(window, filters);
+    }
+
+    return filters;
+  }
+
+  /**
+   * Returns the deepest docking window in this root window at a point in a root pane.
+   *
+   * @param rootPane the root pane, either the root pane of this root window or of one of it's floating windows
+   * @param p        the point relative to the root pane
+   * @return the deepest docking window at the point, null if there is no window at the point
+   */
+  DockingWindow getDeepestWindowAt(JRootPane rootPane, Point p) {
+    long start = metricsRecorder == null ? 0 : System.nanoTime();
+
+    if (boundsIndex == null || boundsIndex.getRootPane() != rootPane)
+      boundsIndex = new DockingWindowBoundsIndex(this, rootPane);
+
+    DockingWindow window = boundsIndex.getWindowAt(p.x, p.y);
+
+    // Rebuild the index if a component has been moved without invalidating this window
+    if (window != null && !(window.isShowing() && window.contains(SwingUtilities.convertPoint(rootPane, p, window)))) {
+      boundsIndex = new DockingWindowBoundsIndex(this, rootPane);
+      window = boundsIndex.getWindowAt(p.x, p.y);
+    }
+
+    if (metricsRecorder != null)
+      metricsRecorder.recordTime("docking.dragHitTest", System.nanoTime() - start);
+
+    return window;
+  }
+
+  void invalidateBoundsIndex() {
+    boundsIndex = null;
+  }
+
+  protected void validateTree() {
+    super.validateTree();
+    boundsIndex = null;
+  }
+
   boolean floatingWindowsContainPoint(Point p) {
     for (int i = 0; i < floatingWindows.size(); i++) {
       FloatingWindow c = ((FloatingWindow) floatingWindows.get(i));
@@ -1226,7 +1403,7 @@ public class RootWindow extends DockingWindow implements Readable, Writable {
       Point p2 = SwingUtilities.convertPoint(this, p, maximizedWindow);
 
       if (maximizedWindow.contains(p2) &&
-          getChildDropFilter().acceptDrop(new ChildDropInfo(window, this, p, maximizedWindow))) {
+          acceptsChildDrop(window, p, maximizedWindow)) {
         DropAction da = maximizedWindow.acceptDrop(p2, window);
 
         if (da != null)
@@ -1241,7 +1418,7 @@ public class RootWindow extends DockingWindow implements Readable, Writable {
     if (this.window != null)
       return null;
 
-    if (getInteriorDropFilter().acceptDrop(new InteriorDropInfo(window, this, p)))
+    if (acceptsInteriorDrop(window, p))
       return new DropAction() {
       public void execute(DockingWindow window, MouseEvent mouseEvent) {
         setWindow(window);
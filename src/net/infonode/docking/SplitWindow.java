@@ -23,8 +23,6 @@
 // $Id: SplitWindow.java,v 1.50 2007/01/28 21:25:10 jesper Exp $
 package net.infonode.docking;
 
-import net.infonode.docking.drop.InteriorDropInfo;
-import net.infonode.docking.drop.SplitDropInfo;
 import net.infonode.docking.internal.ReadContext;
 import net.infonode.docking.internal.WindowAncestors;
 import net.infonode.docking.internal.WriteContext;
@@ -234,6 +232,8 @@ public class SplitWindow extends DockingWindow {
   protected void update() {
     splitPane.setDividerSize(getSplitWindowProperties().getDividerSize());
     splitPane.setContinuousLayout(getSplitWindowProperties().getContinuousLayoutEnabled());
+    splitPane.setThrottledLayout(getSplitWindowProperties().getContinuousLayoutThrottled());
+    splitPane.setLayoutTimeBudget(getSplitWindowProperties().getLayoutTimeBudget());
     splitPane.setDividerDraggable(getSplitWindowProperties().getDividerLocationDragEnabled());
     splitPane.setDragIndicatorColor(getSplitWindowProperties().getDragIndicatorColor());
   }
@@ -364,17 +364,14 @@ public class SplitWindow extends DockingWindow {
 
     if (f <= 0.33f) {
       Direction splitDir = isHorizontal() ? Direction.UP : Direction.LEFT;
-      return getSplitDropFilter().acceptDrop(new SplitDropInfo(window, this, p, splitDir)) ?
-             split(window, splitDir) : null;
+      return acceptsSplitDrop(window, p, splitDir) ? split(window, splitDir) : null;
     }
     else if (f >= 0.66f) {
       Direction splitDir = isHorizontal() ? Direction.DOWN : Direction.RIGHT;
-      return getSplitDropFilter().acceptDrop(new SplitDropInfo(window, this, p, splitDir)) ?
-             split(window, splitDir) : null;
+      return acceptsSplitDrop(window, p, splitDir) ? split(window, splitDir) : null;
     }
     else {
-      return getInteriorDropFilter().acceptDrop(new InteriorDropInfo(window, this, p)) ?
-             createTabWindow(window) : null;
+      return acceptsInteriorDrop(window, p) ? createTabWindow(window) : null;
     }
   }
 
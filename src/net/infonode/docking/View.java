@@ -26,7 +26,6 @@ package net.infonode.docking;
 import net.infonode.docking.drag.DockingWindowDragSource;
 import net.infonode.docking.drag.DockingWindowDragger;
 import net.infonode.docking.drag.DockingWindowDraggerProvider;
-import net.infonode.docking.drop.InteriorDropInfo;
 import net.infonode.docking.internal.ReadContext;
 import net.infonode.docking.internal.ViewTitleBar;
 import net.infonode.docking.internal.WriteContext;
@@ -103,6 +102,9 @@ public class View extends DockingWindow {
 
   private WindowTab ghostTab;
 
+  private ViewComponentFactory componentFactory;
+  private HierarchyListener componentFactoryListener;
+
   private DropAction titleBarDropAction = new DropAction() {
     public boolean showTitle() {
       return false;
@@ -174,6 +176,56 @@ public class View extends DockingWindow {
     init();
   }
 
+  /**
+   * Creates a view where the component inside the view is created by the factory the first time the view becomes
+   * showing or {@link #getComponent()} is called.
+   *
+   * @param title            the title of the view
+   * @param icon             the icon for the view
+   * @param componentFactory the factory that creates the component to place inside the view
+   * @return the view
+   * @since IDW 1.7.0
+   */
+  public static View createLazy(String title, Icon icon, ViewComponentFactory componentFactory) {
+    final View view = new View(title, icon, null);
+    view.componentFactory = componentFactory;
+    view.componentFactoryListener = new HierarchyListener() {
+      public void hierarchyChanged(HierarchyEvent e) {
+        if ((e.getChangeFlags() & HierarchyEvent.SHOWING_CHANGED) != 0 && view.contentPanel.isShowing())
+          view.createComponent();
+      }
+    };
+    view.contentPanel.addHierarchyListener(view.componentFactoryListener);
+    return view;
+  }
+
+  /**
+   * Returns true if the component inside this view has been created. This is always true for views that are not
+   * created with {@link #createLazy(String, Icon, ViewComponentFactory)}.
+   *
+   * @return true if the component inside this view has been created
+   * @since IDW 1.7.0
+   */
+  public boolean isComponentCreated() {
+    return componentFactory == null;
+  }
+
+  private void createComponent() {
+    if (componentFactory != null) {
+      ViewComponentFactory factory = componentFactory;
+      clearComponentFactory();
+      contentPanel.setComponent(factory.createComponent(this));
+    }
+  }
+
+  private void clearComponentFactory() {
+    if (componentFactory != null) {
+      componentFactory = null;
+      contentPanel.removeHierarchyListener(componentFactoryListener);
+      componentFactoryListener = null;
+    }
+  }
+
   /**
    * <p>
    * Returns a list containing the custom window tab components. Changes to the list will be propagated to the tab.
@@ -220,12 +272,14 @@ public class View extends DockingWindow {
   }
 
   /**
-   * Gets the component inside the view.
+   * Gets the component inside the view. If the view was created with a {@link ViewComponentFactory} and the component
+   * hasn't been created yet, it's created by this method.
    *
    * @return the component inside the view
    * @since IDW 1.1.0
    */
   public Component getComponent() {
+    createComponent();
     return contentPanel.getComponent(0);
   }
 
@@ -236,6 +290,7 @@ public class View extends DockingWindow {
    * @since IDW 1.1.0
    */
   public void setComponent(Component component) {
+    clearComponentFactory();
     contentPanel.setComponent(component);
   }
 
@@ -357,7 +412,7 @@ public class View extends DockingWindow {
     if (getWindowParent() instanceof TabWindow && titleBar != null && window.getWindowParent() != getWindowParent()) {
       Point p2 = SwingUtilities.convertPoint(this, p, titleBar);
       if (titleBar.contains(p2)) {
-        if (!getInteriorDropFilter().acceptDrop(new InteriorDropInfo(window, this, p)))
+        if (!acceptsInteriorDrop(window, p))
           return null;
 
         addGhostTab(window);
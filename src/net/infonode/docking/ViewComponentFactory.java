@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2004 NNL Technology AB
+ * Visit www.infonode.net for information about InfoNode(R) 
+ * products and how to contact NNL Technology AB.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, 
+ * MA 02111-1307, USA.
+ */
+
+
+package net.infonode.docking;
+
+import java.awt.*;
+
+/**
+ * <p>
+ * A factory that creates the component inside a view. Using a factory instead of a component when creating a view makes
+ * it possible to create a layout with a large number of views without creating the view components until they are
+ * needed.
+ * </p>
+ *
+ * <p>
+ * The factory is called once for a view, the first time the view becomes showing or {@link View#getComponent()} is
+ * called. The call also serves as a notification to the application that the view is used.
+ * </p>
+ *
+ * @author $Author: jesper $
+ * @version $Revision: 1.1 $
+ * @see View#createLazy(String, javax.swing.Icon, ViewComponentFactory)
+ * @since IDW 1.7.0
+ */
+public interface ViewComponentFactory {
+  /**
+   * Creates the component inside a view.
+   *
+   * @param view the view
+   * @return the component to place inside the view
+   */
+  Component createComponent(View view);
+}
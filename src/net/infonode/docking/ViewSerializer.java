@@ -49,6 +49,8 @@ public interface ViewSerializer {
    * Must read all the data written in the {@link #writeView} method.
    * Note that the view property values are read automatically, so this method should not read them.
    * This method should return null if the serialized view can't be resolved.
+   * A view created with a {@link ViewComponentFactory} can be returned to defer the creation of the view component
+   * until the view is shown.
    *
    * @param in the stream from which to read the view state
    * @return the view, null if the view can't be resolved
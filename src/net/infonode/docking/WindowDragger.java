@@ -107,7 +107,7 @@ class WindowDragger implements DockingWindowDragger {
                                           root);
     }
 
-    DockingWindow dropWindow = getDeepestWindowAt(root, point.x, point.y);
+    DockingWindow dropWindow = rootWindow.getDeepestWindowAt(root, point);
 
     while (dropWindow != null && dropWindow.getWindowParent() != null &&
            !(dropWindow/*.getWindowParent()*/ instanceof FloatingWindow)) {
@@ -138,27 +138,4 @@ class WindowDragger implements DockingWindowDragger {
     if (dropAction == null)
       rootWindow.setDragRectangle(null);
   }
-
-  private DockingWindow getDeepestWindowAt(Component component, int x, int y) {
-    if (component == null || !component.isVisible() || !component.contains(x, y))
-      return null;
-
-    if (component instanceof Container) {
-      Component[] components = ((Container) component).getComponents();
-
-      for (int i = 0; i < components.length; i++) {
-        DockingWindow w = getDeepestWindowAt(components[i], x - components[i].getX(), y - components[i].getY());
-
-        if (w != null)
-          return w;
-      }
-    }
-
-    if (component instanceof DockingWindow) {
-      DockingWindow w = (DockingWindow) component;
-      return w.getRootWindow() == rootWindow ? w : null;
-    }
-    else
-      return null;
-  }
 }
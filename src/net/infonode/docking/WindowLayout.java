@@ -0,0 +1,360 @@
+/*
+ * Copyright (C) 2004 NNL Technology AB
+ * Visit www.infonode.net for information about InfoNode(R) 
+ * products and how to contact NNL Technology AB.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, 
+ * MA 02111-1307, USA.
+ */
+
+
+package net.infonode.docking;
+
+import net.infonode.util.ArrayUtil;
+
+import java.util.HashSet;
+
+/**
+ * <p>
+ * An immutable description of a tree of views, tab windows and split windows. A layout is either captured from the
+ * windows in a root window using {@link #capture(DockingWindow)} or created using {@link #view(View)},
+ * {@link #tab(WindowLayout[], int)} and {@link #split(boolean, float, WindowLayout, WindowLayout)}.
+ * </p>
+ *
+ * <p>
+ * A layout is applied to a root window using {@link RootWindow#setWindowLayout(WindowLayout)}. Unlike reading a
+ * serialized window state, applying a layout reuses the tab and split windows that are already in the root window and
+ * only performs the operations needed to change the window tree into the layout.
+ * </p>
+ *
+ * @author $Author: jesper $
+ * @version $Revision: 1.1 $
+ * @since IDW 1.7.0
+ */
+public final class WindowLayout {
+  private static final int VIEW = 0;
+  private static final int TAB = 1;
+  private static final int SPLIT = 2;
+
+  private final int type;
+  private final View view;
+  private final WindowLayout[] children;
+  private final int selectedIndex;
+  private final boolean horizontal;
+  private final float dividerLocation;
+
+  private WindowLayout(int type, View view, WindowLayout[] children, int selectedIndex, boolean horizontal,
+                       float dividerLocation) {
+    this.type = type;
+    this.view = view;
+    this.children = children;
+    this.selectedIndex = selectedIndex;
+    this.horizontal = horizontal;
+    this.dividerLocation = dividerLocation;
+  }
+
+  /**
+   * Creates a layout containing a view.
+   *
+   * @param view the view
+   * @return the layout
+   */
+  public static WindowLayout view(View view) {
+    if (view == null)
+      throw new IllegalArgumentException("View is null!");
+
+    return new WindowLayout(VIEW, view, new WindowLayout[0], -1, false, 0);
+  }
+
+  /**
+   * Creates a layout containing a tab window.
+   *
+   * @param windows       the layouts of the windows in the tab window
+   * @param selectedIndex the index of the selected tab, -1 means no selected tab
+   * @return the layout
+   */
+  public static WindowLayout tab(WindowLayout[] windows, int selectedIndex) {
+    if (windows.length == 0)
+      throw new IllegalArgumentException("A tab window layout must contain at least one window!");
+
+    if (selectedIndex < -1 || selectedIndex >= windows.length)
+      throw new IllegalArgumentException("Invalid selected index " + selectedIndex + "!");
+
+    return new WindowLayout(TAB, null, checkWindows(windows.clone()), selectedIndex, false, 0);
+  }
+
+  /**
+   * Creates a layout containing a split window.
+   *
+   * @param horizontal      true for a horizontal split, false for a vertical split
+   * @param dividerLocation the divider location as a fraction of the split window's size
+   * @param leftWindow      the layout of the left/upper window
+   * @param rightWindow     the layout of the right/lower window
+   * @return the layout
+   */
+  public static WindowLayout split(boolean horizontal, float dividerLocation, WindowLayout leftWindow,
+                                   WindowLayout rightWindow) {
+    return new WindowLayout(SPLIT, null, checkWindows(new WindowLayout[]{leftWindow, rightWindow}), -1, horizontal,
+                            dividerLocation);
+  }
+
+  private static WindowLayout[] checkWindows(WindowLayout[] windows) {
+    for (int i = 0; i < windows.length; i++)
+      if (windows[i] == null)
+        throw new IllegalArgumentException("Window layout is null!");
+
+    return windows;
+  }
+
+  /**
+   * Captures the layout of a window and its child windows. Only views, tab windows and split windows can be captured.
+   *
+   * @param window the window, can be null
+   * @return the layout, null if the window is null
+   */
+  public static WindowLayout capture(DockingWindow window) {
+    if (window == null)
+      return null;
+
+    if (window instanceof View)
+      return view((View) window);
+
+    if (window instanceof TabWindow) {
+      TabWindow tabWindow = (TabWindow) window;
+      WindowLayout[] windows = new WindowLayout[tabWindow.getChildWindowCount()];
+
+      for (int i = 0; i < windows.length; i++)
+        windows[i] = capture(tabWindow.getChildWindow(i));
+
+      return windows.length == 0 ? null :
+             new WindowLayout(TAB, null, windows, tabWindow.getChildWindowIndex(tabWindow.getSelectedWindow()), false,
+                              0);
+    }
+
+    if (window instanceof SplitWindow) {
+      SplitWindow splitWindow = (SplitWindow) window;
+      WindowLayout left = capture(splitWindow.getLeftWindow());
+      WindowLayout right = capture(splitWindow.getRightWindow());
+      return left == null ? right :
+             right == null ? left :
+             split(splitWindow.isHorizontal(), splitWindow.getDividerLocation(), left, right);
+    }
+
+    throw new IllegalArgumentException("Can't capture the layout of " + window.getClass().getName() + "!");
+  }
+
+  /**
+   * Returns the view in this layout.
+   *
+   * @return the view, null if this layout doesn't contain a view
+   */
+  public View getView() {
+    return view;
+  }
+
+  /**
+   * Returns true if this layout contains a tab window.
+   *
+   * @return true if this layout contains a tab window
+   */
+  public boolean isTabWindow() {
+    return type == TAB;
+  }
+
+  /**
+   * Returns true if this layout contains a split window.
+   *
+   * @return true if this layout contains a split window
+   */
+  public boolean isSplitWindow() {
+    return type == SPLIT;
+  }
+
+  /**
+   * Returns the number of child window layouts.
+   *
+   * @return the number of child window layouts
+   */
+  public int getChildCount() {
+    return children.length;
+  }
+
+  /**
+   * Returns a child window layout.
+   *
+   * @param index the index of the child
+   * @return the child window layout
+   */
+  public WindowLayout getChild(int index) {
+    return children[index];
+  }
+
+  /**
+   * Returns the index of the selected tab if this layout contains a tab window.
+   *
+   * @return the index of the selected tab, -1 if there is no selected tab
+   */
+  public int getSelectedIndex() {
+    return selectedIndex;
+  }
+
+  /**
+   * Returns true if this layout contains a horizontal split window.
+   *
+   * @return true if this layout contains a horizontal split window
+   */
+  public boolean isHorizontal() {
+    return horizontal;
+  }
+
+  /**
+   * Returns the divider location if this layout contains a split window.
+   *
+   * @return the divider location as a fraction of the split window's size
+   */
+  public float getDividerLocation() {
+    return dividerLocation;
+  }
+
+  void getViews(HashSet views) {
+    if (view != null && !views.add(view))
+      throw new IllegalArgumentException("View '" + view.getTitle() + "' occurs more than once in the layout!");
+
+    for (int i = 0; i < children.length; i++)
+      children[i].getViews(views);
+  }
+
+  /**
+   * Adds a window and all its descendant tab and split windows to a set.
+   */
+  static void getReusableWindows(DockingWindow window, HashSet windows) {
+    if (window == null || window instanceof View)
+      return;
+
+    windows.add(window);
+
+    for (int i = 0; i < window.getChildWindowCount(); i++)
+      getReusableWindows(window.getChildWindow(i), windows);
+  }
+
+  /**
+   * Creates the window for this layout, reusing windows in the reusable set when possible. Reused windows are removed
+   * from the set.
+   */
+  DockingWindow apply(HashSet reusable) {
+    if (type == VIEW)
+      return view;
+
+    DockingWindow[] windows = new DockingWindow[children.length];
+
+    for (int i = 0; i < windows.length; i++)
+      windows[i] = children[i].apply(reusable);
+
+    if (type == TAB) {
+      TabWindow tabWindow = (TabWindow) findReusableParent(windows, TabWindow.class, reusable);
+
+      if (tabWindow == null)
+        tabWindow = new TabWindow(windows);
+      else {
+        // Remove the windows that are not in the layout first, otherwise all windows after a removed window are moved
+        for (int i = tabWindow.getChildWindowCount() - 1; i >= 0; i--)
+          if (!ArrayUtil.contains(windows, tabWindow.getChildWindow(i)))
+            tabWindow.removeChildWindow(tabWindow.getChildWindow(i));
+
+        for (int i = 0; i < windows.length; i++)
+          if (i >= tabWindow.getChildWindowCount() || tabWindow.getChildWindow(i) != windows[i])
+            tabWindow.addTabNoSelect(windows[i], i);
+      }
+
+      tabWindow.setSelectedTab(selectedIndex);
+      return tabWindow;
+    }
+
+    for (int i = 0; i < windows.length; i++)
+      windows[i] = getTitleWindow(windows[i], reusable);
+
+    SplitWindow splitWindow = (SplitWindow) findReusableParent(windows, SplitWindow.class, reusable);
+
+    if (splitWindow == null)
+      splitWindow = new SplitWindow(horizontal, dividerLocation, windows[0], windows[1]);
+    else {
+      splitWindow.setWindows(windows[0], windows[1]);
+
+      if (splitWindow.isHorizontal() != horizontal)
+        splitWindow.setHorizontal(horizontal);
+
+      if (splitWindow.getDividerLocation() != dividerLocation)
+        splitWindow.setDividerLocation(dividerLocation);
+    }
+
+    return splitWindow;
+  }
+
+  /**
+   * Returns the tab window that currently shows the title of a window that needs one, so that it isn't replaced by a
+   * new tab window when the window is added to a split window.
+   */
+  private static DockingWindow getTitleWindow(DockingWindow window, HashSet reusable) {
+    DockingWindow parent = window.getWindowParent();
+
+    if (window.needsTitleWindow() && parent != null && parent.getClass() == TabWindow.class &&
+        parent.getChildWindowCount() == 1 && reusable.remove(parent))
+      return parent;
+
+    return window;
+  }
+
+  /**
+   * Returns the reusable parent which contains the most of the windows, so that as few windows as possible are moved.
+   * Only windows in a root window are reused, the window model of a window which has been removed is not updated when
+   * its child windows change.
+   */
+  private static DockingWindow findReusableParent(DockingWindow[] windows, Class windowClass, HashSet reusable) {
+    DockingWindow bestParent = null;
+    int bestCount = 0;
+
+    for (int i = 0; i < windows.length; i++) {
+      DockingWindow parent = windows[i].getWindowParent();
+
+      if (parent != null && parent != bestParent && parent.getClass() == windowClass && reusable.contains(parent) &&
+          parent.getRootWindow() != null && !isAncestor(windows, parent)) {
+        int count = 0;
+
+        for (int j = i; j < windows.length; j++)
+          if (windows[j].getWindowParent() == parent)
+            count++;
+
+        if (count > bestCount) {
+          bestParent = parent;
+          bestCount = count;
+        }
+      }
+    }
+
+    if (bestParent != null)
+      reusable.remove(bestParent);
+
+    return bestParent;
+  }
+
+  private static boolean isAncestor(DockingWindow[] windows, DockingWindow window) {
+    for (DockingWindow w = window; w != null; w = w.getWindowParent())
+      for (int i = 0; i < windows.length; i++)
+        if (windows[i] == w)
+          return true;
+
+    return false;
+  }
+}
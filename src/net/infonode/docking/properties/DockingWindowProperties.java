@@ -166,6 +166,9 @@ public class DockingWindowProperties extends PropertyMapContainer {
                                              PropertyMapValueHandler.INSTANCE);
 
 
+  private WindowTabProperties tabProperties;
+  private DockingWindowDropFilterProperties dropFilterProperties;
+
   /**
    * Creates an empty property object.
    */
@@ -232,7 +235,10 @@ public class DockingWindowProperties extends PropertyMapContainer {
    * @return the property values for the window tab when the window is located in a TabWindow or a WindowBar
    */
   public WindowTabProperties getTabProperties() {
-    return new WindowTabProperties(TAB_PROPERTIES.get(getMap()));
+    if (tabProperties == null)
+      tabProperties = new WindowTabProperties(TAB_PROPERTIES.get(getMap()));
+
+    return tabProperties;
   }
 
   /**
@@ -242,7 +248,10 @@ public class DockingWindowProperties extends PropertyMapContainer {
    * @since IDW 1.4.0
    */
   public DockingWindowDropFilterProperties getDropFilterProperties() {
-    return new DockingWindowDropFilterProperties(DROP_FILTER_PROPERTIES.get(getMap()));
+    if (dropFilterProperties == null)
+      dropFilterProperties = new DockingWindowDropFilterProperties(DROP_FILTER_PROPERTIES.get(getMap()));
+
+    return dropFilterProperties;
   }
 
   /**
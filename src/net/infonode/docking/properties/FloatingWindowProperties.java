@@ -82,6 +82,9 @@ public class FloatingWindowProperties extends PropertyMapContainer {
                           "If true the floating window will be created as a JFrame, otherwise a JDialog will be created.",
                           PropertyMapValueHandler.INSTANCE);
 
+  private ComponentProperties componentProperties;
+  private ShapedPanelProperties shapedPanelProperties;
+
   /**
    * Creates an empty property object.
    */
@@ -135,7 +138,10 @@ public class FloatingWindowProperties extends PropertyMapContainer {
    * @return component properties
    */
   public ComponentProperties getComponentProperties() {
-    return new ComponentProperties(COMPONENT_PROPERTIES.get(getMap()));
+    if (componentProperties == null)
+      componentProperties = new ComponentProperties(COMPONENT_PROPERTIES.get(getMap()));
+
+    return componentProperties;
   }
 
   /**
@@ -144,7 +150,10 @@ public class FloatingWindowProperties extends PropertyMapContainer {
    * @return shaped panel properties
    */
   public ShapedPanelProperties getShapedPanelProperties() {
-    return new ShapedPanelProperties(SHAPED_PANEL_PROPERTIES.get(getMap()));
+    if (shapedPanelProperties == null)
+      shapedPanelProperties = new ShapedPanelProperties(SHAPED_PANEL_PROPERTIES.get(getMap()));
+
+    return shapedPanelProperties;
   }
 
   /**
@@ -592,6 +592,8 @@ public class RootWindowProperties extends PropertyMapContainer {
 
     DEFAULT_VALUES.getSplitWindowProperties()
         .setContinuousLayoutEnabled(true)
+        .setContinuousLayoutThrottled(false)
+        .setLayoutTimeBudget(40)
         .setDividerSize(4)
         .setDividerLocationDragEnabled(true)
         .setDragIndicatorColor(Color.DARK_GRAY);
@@ -653,6 +655,19 @@ public class RootWindowProperties extends PropertyMapContainer {
     return new RootWindowProperties(DEFAULT_VALUES);
   }
 
+  private TabWindowProperties tabWindowProperties;
+  private SplitWindowProperties splitWindowProperties;
+  private FloatingWindowProperties floatingWindowProperties;
+  private ViewProperties viewProperties;
+  private DockingWindowProperties dockingWindowProperties;
+  private ComponentProperties dragLabelProperties;
+  private ComponentProperties componentProperties;
+  private ShapedPanelProperties shapedPanelProperties;
+  private ComponentProperties windowAreaProperties;
+  private ShapedPanelProperties windowAreaShapedPanelProperties;
+  private WindowBarProperties windowBarProperties;
+  private ShapedPanelProperties dragRectangleShapedPanelProperties;
+
   /**
    * Creates an empty property object.
    */
@@ -733,7 +748,10 @@ public class RootWindowProperties extends PropertyMapContainer {
    * @return the default property values for tab windows
    */
   public TabWindowProperties getTabWindowProperties() {
-    return new TabWindowProperties(TAB_WINDOW_PROPERTIES.get(getMap()));
+    if (tabWindowProperties == null)
+      tabWindowProperties = new TabWindowProperties(TAB_WINDOW_PROPERTIES.get(getMap()));
+
+    return tabWindowProperties;
   }
 
   /**
@@ -742,7 +760,10 @@ public class RootWindowProperties extends PropertyMapContainer {
    * @return the default property values for split windows
    */
   public SplitWindowProperties getSplitWindowProperties() {
-    return new SplitWindowProperties(SPLIT_WINDOW_PROPERTIES.get(getMap()));
+    if (splitWindowProperties == null)
+      splitWindowProperties = new SplitWindowProperties(SPLIT_WINDOW_PROPERTIES.get(getMap()));
+
+    return splitWindowProperties;
   }
 
   /**
@@ -752,7 +773,10 @@ public class RootWindowProperties extends PropertyMapContainer {
    * @since IDW 1.4.0
    */
   public FloatingWindowProperties getFloatingWindowProperties() {
-    return new FloatingWindowProperties(FLOATING_WINDOW_PROPERTIES.get(getMap()));
+    if (floatingWindowProperties == null)
+      floatingWindowProperties = new FloatingWindowProperties(FLOATING_WINDOW_PROPERTIES.get(getMap()));
+
+    return floatingWindowProperties;
   }
 
   /**
@@ -761,7 +785,10 @@ public class RootWindowProperties extends PropertyMapContainer {
    * @return the default property values for views
    */
   public ViewProperties getViewProperties() {
-    return new ViewProperties(VIEW_PROPERTIES.get(getMap()));
+    if (viewProperties == null)
+      viewProperties = new ViewProperties(VIEW_PROPERTIES.get(getMap()));
+
+    return viewProperties;
   }
 
   /**
@@ -770,7 +797,10 @@ public class RootWindowProperties extends PropertyMapContainer {
    * @return the default property values for docking windows
    */
   public DockingWindowProperties getDockingWindowProperties() {
-    return new DockingWindowProperties(DOCKING_WINDOW_PROPERTIES.get(getMap()));
+    if (dockingWindowProperties == null)
+      dockingWindowProperties = new DockingWindowProperties(DOCKING_WINDOW_PROPERTIES.get(getMap()));
+
+    return dockingWindowProperties;
   }
 
   /**
@@ -839,7 +869,10 @@ public class RootWindowProperties extends PropertyMapContainer {
    * @return the property values for the drag label
    */
   public ComponentProperties getDragLabelProperties() {
-    return new ComponentProperties(DRAG_LABEL_PROPERTIES.get(getMap()));
+    if (dragLabelProperties == null)
+      dragLabelProperties = new ComponentProperties(DRAG_LABEL_PROPERTIES.get(getMap()));
+
+    return dragLabelProperties;
   }
 
   /**
@@ -848,7 +881,10 @@ public class RootWindowProperties extends PropertyMapContainer {
    * @return the property values for the root window component
    */
   public ComponentProperties getComponentProperties() {
-    return new ComponentProperties(COMPONENT_PROPERTIES.get(getMap()));
+    if (componentProperties == null)
+      componentProperties = new ComponentProperties(COMPONENT_PROPERTIES.get(getMap()));
+
+    return componentProperties;
   }
 
   /**
@@ -858,7 +894,10 @@ public class RootWindowProperties extends PropertyMapContainer {
    * @since IDW 1.2.0
    */
   public ShapedPanelProperties getShapedPanelProperties() {
-    return new ShapedPanelProperties(SHAPED_PANEL_PROPERTIES.get(getMap()));
+    if (shapedPanelProperties == null)
+      shapedPanelProperties = new ShapedPanelProperties(SHAPED_PANEL_PROPERTIES.get(getMap()));
+
+    return shapedPanelProperties;
   }
 
   /**
@@ -867,7 +906,10 @@ public class RootWindowProperties extends PropertyMapContainer {
    * @return the component property values for the window area component
    */
   public ComponentProperties getWindowAreaProperties() {
-    return new ComponentProperties(WINDOW_AREA_PROPERTIES.get(getMap()));
+    if (windowAreaProperties == null)
+      windowAreaProperties = new ComponentProperties(WINDOW_AREA_PROPERTIES.get(getMap()));
+
+    return windowAreaProperties;
   }
 
   /**
@@ -876,7 +918,10 @@ public class RootWindowProperties extends PropertyMapContainer {
    * @return the shaped panel property values for the window area component
    */
   public ShapedPanelProperties getWindowAreaShapedPanelProperties() {
-    return new ShapedPanelProperties(WINDOW_AREA_SHAPED_PANEL_PROPERTIES.get(getMap()));
+    if (windowAreaShapedPanelProperties == null)
+      windowAreaShapedPanelProperties = new ShapedPanelProperties(WINDOW_AREA_SHAPED_PANEL_PROPERTIES.get(getMap()));
+
+    return windowAreaShapedPanelProperties;
   }
 
   /**
@@ -926,7 +971,10 @@ public class RootWindowProperties extends PropertyMapContainer {
    * @since IDW 1.1.0
    */
   public WindowBarProperties getWindowBarProperties() {
-    return new WindowBarProperties(WINDOW_BAR_PROPERTIES.get(getMap()));
+    if (windowBarProperties == null)
+      windowBarProperties = new WindowBarProperties(WINDOW_BAR_PROPERTIES.get(getMap()));
+
+    return windowBarProperties;
   }
 
   /**
@@ -936,7 +984,11 @@ public class RootWindowProperties extends PropertyMapContainer {
    * @since IDW 1.2.0
    */
   public ShapedPanelProperties getDragRectangleShapedPanelProperties() {
-    return new ShapedPanelProperties(DRAG_RECTANGLE_SHAPED_PANEL_PROPERTIES.get(getMap()));
+    if (dragRectangleShapedPanelProperties == null)
+      dragRectangleShapedPanelProperties =
+          new ShapedPanelProperties(DRAG_RECTANGLE_SHAPED_PANEL_PROPERTIES.get(getMap()));
+
+    return dragRectangleShapedPanelProperties;
   }
 
 }
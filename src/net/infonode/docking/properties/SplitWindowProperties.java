@@ -85,6 +85,31 @@ public class SplitWindowProperties extends PropertyMapContainer {
                         "The color for the divider's drag indicator that is shown when continuous layout is disabled.",
                         PropertyMapValueHandler.INSTANCE);
 
+  /**
+   * When enabled the continuous layout is throttled so that the windows are laid out at most once per frame while
+   * dragging the split window divider.
+   *
+   * @since IDW 1.7.0
+   */
+  public static final BooleanProperty CONTINUOUS_LAYOUT_THROTTLED =
+      new BooleanProperty(PROPERTIES,
+                          "Continuous Layout Throttled",
+                          "When enabled the continuous layout is throttled so that the windows are laid out at most once per frame while dragging the split window divider.",
+                          PropertyMapValueHandler.INSTANCE);
+
+  /**
+   * The maximum time in milliseconds a throttled continuous layout may take before the drag indicator is used for the
+   * rest of the drag. 0 means that the drag indicator is never used.
+   *
+   * @since IDW 1.7.0
+   */
+  public static final IntegerProperty LAYOUT_TIME_BUDGET =
+      IntegerProperty.createPositive(PROPERTIES,
+                                     "Layout Time Budget",
+                                     "The maximum time in milliseconds a throttled continuous layout may take before the drag indicator is used for the rest of the drag.",
+                                     3,
+                                     PropertyMapValueHandler.INSTANCE);
+
   /**
    * Creates an empty property object.
    */
@@ -209,6 +234,52 @@ public class SplitWindowProperties extends PropertyMapContainer {
     return this;
   }
 
+  /**
+   * Returns true if the continuous layout is throttled.
+   *
+   * @return true if the continuous layout is throttled
+   * @since IDW 1.7.0
+   */
+  public boolean getContinuousLayoutThrottled() {
+    return CONTINUOUS_LAYOUT_THROTTLED.get(getMap());
+  }
+
+  /**
+   * Enables/disables throttling of the continuous layout. When enabled the windows are laid out at most once per frame
+   * while dragging the split window divider.
+   *
+   * @param throttled if true the continuous layout is throttled
+   * @return this
+   * @since IDW 1.7.0
+   */
+  public SplitWindowProperties setContinuousLayoutThrottled(boolean throttled) {
+    CONTINUOUS_LAYOUT_THROTTLED.set(getMap(), throttled);
+    return this;
+  }
+
+  /**
+   * Returns the maximum time a throttled continuous layout may take before the drag indicator is used.
+   *
+   * @return the time budget in milliseconds
+   * @since IDW 1.7.0
+   */
+  public int getLayoutTimeBudget() {
+    return LAYOUT_TIME_BUDGET.get(getMap());
+  }
+
+  /**
+   * Sets the maximum time a throttled continuous layout may take before the drag indicator is used for the rest of the
+   * drag.
+   *
+   * @param millis the time budget in milliseconds, 0 means that the drag indicator is never used
+   * @return this
+   * @since IDW 1.7.0
+   */
+  public SplitWindowProperties setLayoutTimeBudget(int millis) {
+    LAYOUT_TIME_BUDGET.set(getMap(), millis);
+    return this;
+  }
+
   /**
    * Returns true if the user can drag the SplitWindow divider to a new location.
    *
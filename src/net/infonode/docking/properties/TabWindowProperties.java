@@ -130,6 +130,15 @@ public class TabWindowProperties extends PropertyMapContainer {
         "When enabled the Tab Window will respect its child windows minimum sizes.",
         PropertyMapValueHandler.INSTANCE);
 
+  private TabbedPanelProperties tabbedPanelProperties;
+  private WindowTabProperties tabProperties;
+  private WindowTabButtonProperties minimizeButtonProperties;
+  private WindowTabButtonProperties restoreButtonProperties;
+  private WindowTabButtonProperties closeButtonProperties;
+  private WindowTabButtonProperties maximizeButtonProperties;
+  private WindowTabButtonProperties undockButtonProperties;
+  private WindowTabButtonProperties dockButtonProperties;
+
   /**
    * Creates an empty property object.
    */
@@ -196,7 +205,10 @@ public class TabWindowProperties extends PropertyMapContainer {
    * @return the property values for the tabbed panel in the tab window
    */
   public TabbedPanelProperties getTabbedPanelProperties() {
-    return new TabbedPanelProperties(TABBED_PANEL_PROPERTIES.get(getMap()));
+    if (tabbedPanelProperties == null)
+      tabbedPanelProperties = new TabbedPanelProperties(TABBED_PANEL_PROPERTIES.get(getMap()));
+
+    return tabbedPanelProperties;
   }
 
   /**
@@ -205,7 +217,10 @@ public class TabWindowProperties extends PropertyMapContainer {
    * @return the default property values for the window tabs in the tab window
    */
   public WindowTabProperties getTabProperties() {
-    return new WindowTabProperties(TAB_PROPERTIES.get(getMap()));
+    if (tabProperties == null)
+      tabProperties = new WindowTabProperties(TAB_PROPERTIES.get(getMap()));
+
+    return tabProperties;
   }
 
   /**
@@ -215,7 +230,10 @@ public class TabWindowProperties extends PropertyMapContainer {
    * @since IDW 1.1.0
    */
   public WindowTabButtonProperties getMinimizeButtonProperties() {
-    return new WindowTabButtonProperties(MINIMIZE_BUTTON_PROPERTIES.get(getMap()));
+    if (minimizeButtonProperties == null)
+      minimizeButtonProperties = new WindowTabButtonProperties(MINIMIZE_BUTTON_PROPERTIES.get(getMap()));
+
+    return minimizeButtonProperties;
   }
 
   /**
@@ -225,7 +243,10 @@ public class TabWindowProperties extends PropertyMapContainer {
    * @since IDW 1.1.0
    */
   public WindowTabButtonProperties getRestoreButtonProperties() {
-    return new WindowTabButtonProperties(RESTORE_BUTTON_PROPERTIES.get(getMap()));
+    if (restoreButtonProperties == null)
+      restoreButtonProperties = new WindowTabButtonProperties(RESTORE_BUTTON_PROPERTIES.get(getMap()));
+
+    return restoreButtonProperties;
   }
 
   /**
@@ -235,7 +256,10 @@ public class TabWindowProperties extends PropertyMapContainer {
    * @since IDW 1.1.0
    */
   public WindowTabButtonProperties getCloseButtonProperties() {
-    return new WindowTabButtonProperties(CLOSE_BUTTON_PROPERTIES.get(getMap()));
+    if (closeButtonProperties == null)
+      closeButtonProperties = new WindowTabButtonProperties(CLOSE_BUTTON_PROPERTIES.get(getMap()));
+
+    return closeButtonProperties;
   }
 
   /**
@@ -245,7 +269,10 @@ public class TabWindowProperties extends PropertyMapContainer {
    * @since IDW 1.1.0
    */
   public WindowTabButtonProperties getMaximizeButtonProperties() {
-    return new WindowTabButtonProperties(MAXIMIZE_BUTTON_PROPERTIES.get(getMap()));
+    if (maximizeButtonProperties == null)
+      maximizeButtonProperties = new WindowTabButtonProperties(MAXIMIZE_BUTTON_PROPERTIES.get(getMap()));
+
+    return maximizeButtonProperties;
   }
 
   /**
@@ -255,7 +282,10 @@ public class TabWindowProperties extends PropertyMapContainer {
    * @since IDW 1.4.0
    */
   public WindowTabButtonProperties getUndockButtonProperties() {
-    return new WindowTabButtonProperties(UNDOCK_BUTTON_PROPERTIES.get(getMap()));
+    if (undockButtonProperties == null)
+      undockButtonProperties = new WindowTabButtonProperties(UNDOCK_BUTTON_PROPERTIES.get(getMap()));
+
+    return undockButtonProperties;
   }
 
   /**
@@ -265,7 +295,10 @@ public class TabWindowProperties extends PropertyMapContainer {
    * @since IDW 1.4.0
    */
   public WindowTabButtonProperties getDockButtonProperties() {
-    return new WindowTabButtonProperties(DOCK_BUTTON_PROPERTIES.get(getMap()));
+    if (dockButtonProperties == null)
+      dockButtonProperties = new WindowTabButtonProperties(DOCK_BUTTON_PROPERTIES.get(getMap()));
+
+    return dockButtonProperties;
   }
 
   /**
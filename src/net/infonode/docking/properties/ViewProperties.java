@@ -81,6 +81,8 @@ public class ViewProperties extends PropertyMapContainer {
     new ViewProperties(PROPERTIES.getDefaultMap()).setAlwaysShowTitle(true);
   }
 
+  private ViewTitleBarProperties viewTitleBarProperties;
+
   /**
    * Creates an empty property object.
    */
@@ -149,7 +151,10 @@ public class ViewProperties extends PropertyMapContainer {
    * @since IDW 1.4.0
    */
   public ViewTitleBarProperties getViewTitleBarProperties() {
-    return new ViewTitleBarProperties(VIEW_TITLE_BAR_PROPERTIES.get(getMap()));
+    if (viewTitleBarProperties == null)
+      viewTitleBarProperties = new ViewTitleBarProperties(VIEW_TITLE_BAR_PROPERTIES.get(getMap()));
+
+    return viewTitleBarProperties;
   }
 
   /**
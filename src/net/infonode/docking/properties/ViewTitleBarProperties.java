@@ -128,6 +128,9 @@ public class ViewTitleBarProperties extends PropertyMapContainer {
                                                                                        PropertyMapValueHandler.INSTANCE);
 
 
+  private ViewTitleBarStateProperties normalProperties;
+  private ViewTitleBarStateProperties focusedProperties;
+
   /**
    * Creates an empty property object.
    */
@@ -182,7 +185,10 @@ public class ViewTitleBarProperties extends PropertyMapContainer {
    * @return the property values for the title bar's normal state
    */
   public ViewTitleBarStateProperties getNormalProperties() {
-    return new ViewTitleBarStateProperties(NORMAL_PROPERTIES.get(getMap()));
+    if (normalProperties == null)
+      normalProperties = new ViewTitleBarStateProperties(NORMAL_PROPERTIES.get(getMap()));
+
+    return normalProperties;
   }
 
   /**
@@ -198,7 +204,10 @@ public class ViewTitleBarProperties extends PropertyMapContainer {
    * @return the property values for the title bar's focused state
    */
   public ViewTitleBarStateProperties getFocusedProperties() {
-    return new ViewTitleBarStateProperties(FOCUSED_PROPERTIES.get(getMap()));
+    if (focusedProperties == null)
+      focusedProperties = new ViewTitleBarStateProperties(FOCUSED_PROPERTIES.get(getMap()));
+
+    return focusedProperties;
   }
 
   /**
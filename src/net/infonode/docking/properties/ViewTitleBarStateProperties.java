@@ -196,6 +196,15 @@ public class ViewTitleBarStateProperties extends PropertyMapContainer {
                                                                                       2,
                                                                                       PropertyMapValueHandler.INSTANCE);
 
+  private ComponentProperties componentProperties;
+  private ShapedPanelProperties shapedPanelProperties;
+  private WindowTabButtonProperties minimizeButtonProperties;
+  private WindowTabButtonProperties maximizeButtonProperties;
+  private WindowTabButtonProperties restoreButtonProperties;
+  private WindowTabButtonProperties closeButtonProperties;
+  private WindowTabButtonProperties undockButtonProperties;
+  private WindowTabButtonProperties dockButtonProperties;
+
   /**
    * Creates an empty property object.
    */
@@ -250,7 +259,10 @@ public class ViewTitleBarStateProperties extends PropertyMapContainer {
    * @return component properties
    */
   public ComponentProperties getComponentProperties() {
-    return new ComponentProperties(COMPONENT_PROPERTIES.get(getMap()));
+    if (componentProperties == null)
+      componentProperties = new ComponentProperties(COMPONENT_PROPERTIES.get(getMap()));
+
+    return componentProperties;
   }
 
   /**
@@ -259,7 +271,10 @@ public class ViewTitleBarStateProperties extends PropertyMapContainer {
    * @return shaped panel properties
    */
   public ShapedPanelProperties getShapedPanelProperties() {
-    return new ShapedPanelProperties(SHAPED_PANEL_PROPERTIES.get(getMap()));
+    if (shapedPanelProperties == null)
+      shapedPanelProperties = new ShapedPanelProperties(SHAPED_PANEL_PROPERTIES.get(getMap()));
+
+    return shapedPanelProperties;
   }
 
   /**
@@ -268,7 +283,10 @@ public class ViewTitleBarStateProperties extends PropertyMapContainer {
    * @return the minimize button property values
    */
   public WindowTabButtonProperties getMinimizeButtonProperties() {
-    return new WindowTabButtonProperties(MINIMIZE_BUTTON_PROPERTIES.get(getMap()));
+    if (minimizeButtonProperties == null)
+      minimizeButtonProperties = new WindowTabButtonProperties(MINIMIZE_BUTTON_PROPERTIES.get(getMap()));
+
+    return minimizeButtonProperties;
   }
 
   /**
@@ -277,7 +295,10 @@ public class ViewTitleBarStateProperties extends PropertyMapContainer {
    * @return the maximize button property values
    */
   public WindowTabButtonProperties getMaximizeButtonProperties() {
-    return new WindowTabButtonProperties(MAXIMIZE_BUTTON_PROPERTIES.get(getMap()));
+    if (maximizeButtonProperties == null)
+      maximizeButtonProperties = new WindowTabButtonProperties(MAXIMIZE_BUTTON_PROPERTIES.get(getMap()));
+
+    return maximizeButtonProperties;
   }
 
   /**
@@ -286,7 +307,10 @@ public class ViewTitleBarStateProperties extends PropertyMapContainer {
    * @return the restore button property values
    */
   public WindowTabButtonProperties getRestoreButtonProperties() {
-    return new WindowTabButtonProperties(RESTORE_BUTTON_PROPERTIES.get(getMap()));
+    if (restoreButtonProperties == null)
+      restoreButtonProperties = new WindowTabButtonProperties(RESTORE_BUTTON_PROPERTIES.get(getMap()));
+
+    return restoreButtonProperties;
   }
 
   /**
@@ -295,7 +319,10 @@ public class ViewTitleBarStateProperties extends PropertyMapContainer {
    * @return the close button property values
    */
   public WindowTabButtonProperties getCloseButtonProperties() {
-    return new WindowTabButtonProperties(CLOSE_BUTTON_PROPERTIES.get(getMap()));
+    if (closeButtonProperties == null)
+      closeButtonProperties = new WindowTabButtonProperties(CLOSE_BUTTON_PROPERTIES.get(getMap()));
+
+    return closeButtonProperties;
   }
 
   /**
@@ -304,7 +331,10 @@ public class ViewTitleBarStateProperties extends PropertyMapContainer {
    * @return the undock button property values
    */
   public WindowTabButtonProperties getUndockButtonProperties() {
-    return new WindowTabButtonProperties(UNDOCK_BUTTON_PROPERTIES.get(getMap()));
+    if (undockButtonProperties == null)
+      undockButtonProperties = new WindowTabButtonProperties(UNDOCK_BUTTON_PROPERTIES.get(getMap()));
+
+    return undockButtonProperties;
   }
 
   /**
@@ -313,7 +343,10 @@ public class ViewTitleBarStateProperties extends PropertyMapContainer {
    * @return the dock button property values
    */
   public WindowTabButtonProperties getDockButtonProperties() {
-    return new WindowTabButtonProperties(DOCK_BUTTON_PROPERTIES.get(getMap()));
+    if (dockButtonProperties == null)
+      dockButtonProperties = new WindowTabButtonProperties(DOCK_BUTTON_PROPERTIES.get(getMap()));
+
+    return dockButtonProperties;
   }
 
   /**
@@ -132,6 +132,9 @@ public class WindowBarProperties extends PropertyMapContainer {
     return new WindowBarProperties(DEFAULT_VALUES[location.ordinal()]);
   }
 
+  private TabWindowProperties tabWindowProperties;
+  private ComponentProperties componentProperties;
+
   /**
    * Creates an empty property object.
    */
@@ -238,7 +241,10 @@ public class WindowBarProperties extends PropertyMapContainer {
    * @return the tab window property values
    */
   public TabWindowProperties getTabWindowProperties() {
-    return new TabWindowProperties(TAB_WINDOW_PROPERTIES.get(getMap()));
+    if (tabWindowProperties == null)
+      tabWindowProperties = new TabWindowProperties(TAB_WINDOW_PROPERTIES.get(getMap()));
+
+    return tabWindowProperties;
   }
 
   /**
@@ -247,7 +253,10 @@ public class WindowBarProperties extends PropertyMapContainer {
    * @return the property values for the window bar component
    */
   public ComponentProperties getComponentProperties() {
-    return new ComponentProperties(COMPONENT_PROPERTIES.get(getMap()));
+    if (componentProperties == null)
+      componentProperties = new ComponentProperties(COMPONENT_PROPERTIES.get(getMap()));
+
+    return componentProperties;
   }
 
   /**
@@ -86,6 +86,12 @@ public class WindowTabProperties extends PropertyMapContainer {
                               "Property values for the tab buttons when the tab is focused or a component in the tab's content component has focus.",
                               WindowTabStateProperties.PROPERTIES);
 
+  private TitledTabProperties titledTabProperties;
+  private TitledTabStateProperties focusedProperties;
+  private WindowTabStateProperties normalButtonProperties;
+  private WindowTabStateProperties highlightedButtonProperties;
+  private WindowTabStateProperties focusedButtonProperties;
+
   /**
    * Creates an empty property object.
    */
@@ -152,7 +158,10 @@ public class WindowTabProperties extends PropertyMapContainer {
    * @return the property values for the titled tab used in the tab
    */
   public TitledTabProperties getTitledTabProperties() {
-    return new TitledTabProperties(TITLED_TAB_PROPERTIES.get(getMap()));
+    if (titledTabProperties == null)
+      titledTabProperties = new TitledTabProperties(TITLED_TAB_PROPERTIES.get(getMap()));
+
+    return titledTabProperties;
   }
 
   /**
@@ -161,7 +170,10 @@ public class WindowTabProperties extends PropertyMapContainer {
    * @return the property values for the titled tab when it is focused or a component in the tab's content component has focus
    */
   public TitledTabStateProperties getFocusedProperties() {
-    return new TitledTabStateProperties(FOCUSED_PROPERTIES.get(getMap()));
+    if (focusedProperties == null)
+      focusedProperties = new TitledTabStateProperties(FOCUSED_PROPERTIES.get(getMap()));
+
+    return focusedProperties;
   }
 
   /**
@@ -170,7 +182,10 @@ public class WindowTabProperties extends PropertyMapContainer {
    * @return the property values for the tab buttons when the tab is in the normal state
    */
   public WindowTabStateProperties getNormalButtonProperties() {
-    return new WindowTabStateProperties(NORMAL_BUTTON_PROPERTIES.get(getMap()));
+    if (normalButtonProperties == null)
+      normalButtonProperties = new WindowTabStateProperties(NORMAL_BUTTON_PROPERTIES.get(getMap()));
+
+    return normalButtonProperties;
   }
 
   /**
@@ -179,7 +194,10 @@ public class WindowTabProperties extends PropertyMapContainer {
    * @return the property values for the tab buttons when the tab is highlighted
    */
   public WindowTabStateProperties getHighlightedButtonProperties() {
-    return new WindowTabStateProperties(HIGHLIGHTED_BUTTON_PROPERTIES.get(getMap()));
+    if (highlightedButtonProperties == null)
+      highlightedButtonProperties = new WindowTabStateProperties(HIGHLIGHTED_BUTTON_PROPERTIES.get(getMap()));
+
+    return highlightedButtonProperties;
   }
 
   /**
@@ -190,7 +208,10 @@ public class WindowTabProperties extends PropertyMapContainer {
    *         component has focus
    */
   public WindowTabStateProperties getFocusedButtonProperties() {
-    return new WindowTabStateProperties(FOCUSED_BUTTON_PROPERTIES.get(getMap()));
+    if (focusedButtonProperties == null)
+      focusedButtonProperties = new WindowTabStateProperties(FOCUSED_BUTTON_PROPERTIES.get(getMap()));
+
+    return focusedButtonProperties;
   }
 
 }
@@ -81,6 +81,12 @@ public class WindowTabStateProperties extends PropertyMapContainer {
                                                                                            "The dock button property values.",
                                                                                            WindowTabButtonProperties.PROPERTIES);
 
+  private WindowTabButtonProperties minimizeButtonProperties;
+  private WindowTabButtonProperties restoreButtonProperties;
+  private WindowTabButtonProperties closeButtonProperties;
+  private WindowTabButtonProperties undockButtonProperties;
+  private WindowTabButtonProperties dockButtonProperties;
+
   /**
    * Creates an empty property object.
    */
@@ -147,7 +153,10 @@ public class WindowTabStateProperties extends PropertyMapContainer {
    * @return the minimize button property values
    */
   public WindowTabButtonProperties getMinimizeButtonProperties() {
-    return new WindowTabButtonProperties(MINIMIZE_BUTTON_PROPERTIES.get(getMap()));
+    if (minimizeButtonProperties == null)
+      minimizeButtonProperties = new WindowTabButtonProperties(MINIMIZE_BUTTON_PROPERTIES.get(getMap()));
+
+    return minimizeButtonProperties;
   }
 
   /**
@@ -156,7 +165,10 @@ public class WindowTabStateProperties extends PropertyMapContainer {
    * @return the restore button property values
    */
   public WindowTabButtonProperties getRestoreButtonProperties() {
-    return new WindowTabButtonProperties(RESTORE_BUTTON_PROPERTIES.get(getMap()));
+    if (restoreButtonProperties == null)
+      restoreButtonProperties = new WindowTabButtonProperties(RESTORE_BUTTON_PROPERTIES.get(getMap()));
+
+    return restoreButtonProperties;
   }
 
   /**
@@ -165,7 +177,10 @@ public class WindowTabStateProperties extends PropertyMapContainer {
    * @return the close button property values
    */
   public WindowTabButtonProperties getCloseButtonProperties() {
-    return new WindowTabButtonProperties(CLOSE_BUTTON_PROPERTIES.get(getMap()));
+    if (closeButtonProperties == null)
+      closeButtonProperties = new WindowTabButtonProperties(CLOSE_BUTTON_PROPERTIES.get(getMap()));
+
+    return closeButtonProperties;
   }
 
   /**
@@ -175,7 +190,10 @@ public class WindowTabStateProperties extends PropertyMapContainer {
    * @since IDW 1.4.0
    */
   public WindowTabButtonProperties getUndockButtonProperties() {
-    return new WindowTabButtonProperties(UNDOCK_BUTTON_PROPERTIES.get(getMap()));
+    if (undockButtonProperties == null)
+      undockButtonProperties = new WindowTabButtonProperties(UNDOCK_BUTTON_PROPERTIES.get(getMap()));
+
+    return undockButtonProperties;
   }
 
   /**
@@ -185,6 +203,9 @@ public class WindowTabStateProperties extends PropertyMapContainer {
    * @since IDW 1.4.0
    */
   public WindowTabButtonProperties getDockButtonProperties() {
-    return new WindowTabButtonProperties(DOCK_BUTTON_PROPERTIES.get(getMap()));
+    if (dockButtonProperties == null)
+      dockButtonProperties = new WindowTabButtonProperties(DOCK_BUTTON_PROPERTIES.get(getMap()));
+
+    return dockButtonProperties;
   }
 }
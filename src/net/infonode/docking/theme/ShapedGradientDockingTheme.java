@@ -201,6 +201,14 @@ public class ShapedGradientDockingTheme extends DockingWindowsTheme {
         return calculatedInsetsBorder.getBorderInsets(c);
       }
 
+      protected boolean isPolygonCacheable() {
+        return true;
+      }
+
+      protected int getPolygonState(Component c) {
+        return super.getPolygonState(c) << 1 | (isFirst(c) ? 1 : 0);
+      }
+
       private boolean isFirst(Component c) {
         Tab tab = TabbedUtils.getParentTab(c);
         if (tab != null && tab.getTabbedPanel() != null)
@@ -0,0 +1,390 @@
+/*
+ * Copyright (C) 2004 NNL Technology AB
+ * Visit www.infonode.net for information about InfoNode(R) 
+ * products and how to contact NNL Technology AB.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, 
+ * MA 02111-1307, USA.
+ */
+
+
+package net.infonode.docking.util;
+
+import net.infonode.docking.Perspective;
+import net.infonode.docking.RootWindow;
+import net.infonode.util.MetricsRecorder;
+
+import java.io.*;
+import java.net.URLEncoder;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Manages named {@link Perspective}s for a root window. Perspectives are kept in memory as immutable snapshots, so
+ * switching between them doesn't require writing and reading the root window state. See {@link Perspective} for how
+ * the time of a switch compares with reading the state.
+ * </p>
+ *
+ * <p>
+ * The number of perspectives kept in memory is bounded, when the limit is exceeded the least recently used perspective
+ * is evicted. If a persistence directory is set, evicted perspectives are written to it on a background thread and are
+ * read back when they are switched to. {@link #flush()} writes all perspectives in memory to the directory. If a
+ * perspective can't be written, the error is thrown by the next call to {@link #flush()} or by the next read from the
+ * directory.
+ * </p>
+ *
+ * <p>
+ * If the root window has a metrics recorder, the duration of each switch is recorded as "docking.perspective.switch".
+ * </p>
+ *
+ * <p>
+ * All methods must be called from the event dispatching thread.
+ * </p>
+ *
+ * @author $Author: jesper $
+ * @version $Revision: 1.1 $
+ * @since IDW 1.7.0
+ */
+public class PerspectiveManager {
+  private static final String FILE_SUFFIX = ".perspective";
+
+  private final RootWindow rootWindow;
+  private final int maxPerspectives;
+  private final LinkedHashMap perspectives = new LinkedHashMap(16, 0.75f, true) {
+    protected boolean removeEldestEntry(Map.Entry eldest) {
+      if (size() <= PerspectiveManager.this.maxPerspectives)
+        return false;
+
+      evicted.add(eldest);
+      return true;
+    }
+  };
+  private final ArrayList evicted = new ArrayList();
+  private final HashSet persistedNames = new HashSet();
+  private boolean includeProperties;
+  private File directory;
+  private ExecutorService writer;
+  private IOException writeError;
+  private String currentPerspective;
+
+  /**
+   * Creates a perspective manager.
+   *
+   * @param rootWindow      the root window
+   * @param maxPerspectives the maximum number of perspectives kept in memory
+   */
+  public PerspectiveManager(RootWindow rootWindow, int maxPerspectives) {
+    if (maxPerspectives < 1)
+      throw new IllegalArgumentException("At least one perspective must be kept in memory!");
+
+    this.rootWindow = rootWindow;
+    this.maxPerspectives = maxPerspectives;
+  }
+
+  /**
+   * Returns the root window.
+   *
+   * @return the root window
+   */
+  public RootWindow getRootWindow() {
+    return rootWindow;
+  }
+
+  /**
+   * Returns true if the root window property values are included in saved perspectives.
+   *
+   * @return true if the root window property values are included in saved perspectives
+   */
+  public boolean getIncludeProperties() {
+    return includeProperties;
+  }
+
+  /**
+   * Sets if the root window property values should be included in saved perspectives. Default is false.
+   *
+   * @param includeProperties true if the root window property values should be included in saved perspectives
+   */
+  public void setIncludeProperties(boolean includeProperties) {
+    this.includeProperties = includeProperties;
+  }
+
+  /**
+   * Returns the directory where perspectives are persisted.
+   *
+   * @return the directory, null if perspectives are not persisted
+   */
+  public File getPersistenceDirectory() {
+    return directory;
+  }
+
+  /**
+   * Sets the directory where perspectives are persisted. The views in the perspectives are written using the view
+   * serializer of the root window.
+   *
+   * @param directory the directory, null means that perspectives are not persisted and are discarded when evicted
+   */
+  public void setPersistenceDirectory(File directory) {
+    this.directory = directory;
+  }
+
+  /**
+   * Saves the current perspective of the root window under a name. If a perspective with the same name exists it's
+   * replaced.
+   *
+   * @param name the name of the perspective
+   * @return the saved perspective
+   */
+  public Perspective savePerspective(String name) {
+    Perspective perspective = Perspective.capture(rootWindow, includeProperties);
+    put(name, perspective);
+    currentPerspective = name;
+    return perspective;
+  }
+
+  /**
+   * Returns true if there is a perspective with a name, either in memory or in the persistence directory.
+   *
+   * @param name the name of the perspective
+   * @return true if there is a perspective with the name
+   */
+  public boolean hasPerspective(String name) {
+    return perspectives.containsKey(name) ||
+           (directory != null && (persistedNames.contains(name) || getFile(name).exists()));
+  }
+
+  /**
+   * Returns the names of the perspectives in memory, the most recently used last.
+   *
+   * @return the names of the perspectives in memory
+   */
+  public String[] getPerspectiveNames() {
+    return (String[]) perspectives.keySet().toArray(new String[perspectives.size()]);
+  }
+
+  /**
+   * Returns the name of the last saved or switched to perspective.
+   *
+   * @return the name of the current perspective, null if there is none
+   */
+  public String getCurrentPerspective() {
+    return currentPerspective;
+  }
+
+  /**
+   * Returns a perspective, reading it from the persistence directory if it's not in memory.
+   *
+   * @param name the name of the perspective
+   * @return the perspective, null if there is no perspective with the name
+   * @throws IOException if there is an error reading the perspective or if an earlier background write failed
+   */
+  public Perspective getPerspective(String name) throws IOException {
+    Perspective perspective = (Perspective) perspectives.get(name);
+
+    if (perspective == null && directory != null) {
+      waitForWriter();
+      File file = getFile(name);
+
+      if (file.exists()) {
+        ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(new FileInputStream(file)));
+
+        try {
+          perspective = Perspective.read(in, rootWindow.getViewSerializer());
+        }
+        finally {
+          in.close();
+        }
+
+        put(name, perspective);
+      }
+    }
+
+    return perspective;
+  }
+
+  /**
+   * Switches the root window to a perspective.
+   *
+   * @param name the name of the perspective
+   * @return true if the perspective was found and applied, otherwise false
+   * @throws IOException if there is an error reading the perspective from the persistence directory or if an earlier
+   *                     background write failed
+   */
+  public boolean switchTo(String name) throws IOException {
+    Perspective perspective = getPerspective(name);
+
+    if (perspective == null)
+      return false;
+
+    MetricsRecorder metrics = rootWindow.getMetricsRecorder();
+    long start = metrics == null ? 0 : System.nanoTime();
+    perspective.apply(rootWindow);
+    currentPerspective = name;
+
+    if (metrics != null)
+      metrics.recordTime("docking.perspective.switch", System.nanoTime() - start);
+
+    return true;
+  }
+
+  /**
+   * Removes a perspective from memory and from the persistence directory.
+   *
+   * @param name the name of the perspective
+   */
+  public void removePerspective(String name) {
+    perspectives.remove(name);
+    persistedNames.remove(name);
+
+    if (name.equals(currentPerspective))
+      currentPerspective = null;
+
+    if (directory != null) {
+      final File file = getFile(name);
+      getWriter().execute(new Runnable() {
+        public void run() {
+          file.delete();
+        }
+      });
+    }
+  }
+
+  /**
+   * Writes all perspectives in memory to the persistence directory and waits until all writes are done.
+   *
+   * @throws IOException if a perspective can't be written, the first error since the last call to this method is
+   *                     thrown
+   */
+  public void flush() throws IOException {
+    if (directory == null)
+      return;
+
+    for (Iterator it = perspectives.entrySet().iterator(); it.hasNext();) {
+      Map.Entry entry = (Map.Entry) it.next();
+      persist((String) entry.getKey(), (Perspective) entry.getValue());
+    }
+
+    waitForWriter();
+  }
+
+  private void put(String name, Perspective perspective) {
+    perspectives.put(name, perspective);
+
+    // Evicted perspectives are persisted after the put has completed, not inside removeEldestEntry(), so a failing
+    // view serializer can't leave the map in an inconsistent state
+    while (evicted.size() > 0) {
+      Map.Entry entry = (Map.Entry) evicted.remove(0);
+      persist((String) entry.getKey(), (Perspective) entry.getValue());
+    }
+  }
+
+  private void persist(String name, Perspective perspective) {
+    if (directory == null)
+      return;
+
+    final File file = getFile(name);
+    final byte[] data;
+
+    try {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      ObjectOutputStream out = new ObjectOutputStream(bytes);
+      perspective.write(out, rootWindow.getViewSerializer());
+      out.close();
+      data = bytes.toByteArray();
+    }
+    catch (IOException e) {
+      setWriteError(e);
+      return;
+    }
+
+    persistedNames.add(name);
+
+    getWriter().execute(new Runnable() {
+      public void run() {
+        try {
+          file.getParentFile().mkdirs();
+          OutputStream out = new FileOutputStream(file);
+
+          try {
+            out.write(data);
+          }
+          finally {
+            out.close();
+          }
+        }
+        catch (IOException e) {
+          setWriteError(e);
+        }
+      }
+    });
+  }
+
+  private synchronized void setWriteError(IOException e) {
+    if (writeError == null)
+      writeError = e;
+  }
+
+  private synchronized IOException takeWriteError() {
+    IOException e = writeError;
+    writeError = null;
+    return e;
+  }
+
+  private ExecutorService getWriter() {
+    if (writer == null) {
+      writer = Executors.newSingleThreadExecutor(new ThreadFactory() {
+        public Thread newThread(Runnable r) {
+          Thread thread = new Thread(r, "Perspective Writer");
+          thread.setDaemon(true);
+          return thread;
+        }
+      });
+    }
+
+    return writer;
+  }
+
+  private void waitForWriter() throws IOException {
+    if (writer != null) {
+      ExecutorService w = writer;
+      writer = null;
+      w.shutdown();
+
+      try {
+        while (!w.awaitTermination(1, TimeUnit.SECONDS)) ;
+      }
+      catch (InterruptedException e) {
+        throw new InterruptedIOException();
+      }
+    }
+
+    IOException e = takeWriteError();
+
+    if (e != null)
+      throw e;
+  }
+
+  private File getFile(String name) {
+    try {
+      return new File(directory, URLEncoder.encode(name, "UTF-8") + FILE_SUFFIX);
+    }
+    catch (UnsupportedEncodingException e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
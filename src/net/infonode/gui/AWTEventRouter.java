@@ -0,0 +1,261 @@
+/*
+ * Copyright (C) 2004 NNL Technology AB
+ * Visit www.infonode.net for information about InfoNode(R) 
+ * products and how to contact NNL Technology AB.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, 
+ * MA 02111-1307, USA.
+ */
+
+
+package net.infonode.gui;
+
+import java.awt.*;
+import java.awt.event.AWTEventListener;
+import java.awt.event.MouseEvent;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+
+/**
+ * <p>
+ * Routes mouse and mouse motion events from a single toolkit wide AWT event listener to the listeners subscribed to
+ * this router.
+ * </p>
+ *
+ * <p>
+ * A listener either receives the events in an event mask for all components or the events with a specific event ID
+ * for components inside a specific window. The top level ancestor of the event source is resolved once per event,
+ * and only if there is a window listener for that event ID, and is then looked up in an identity map of the windows
+ * with listeners.
+ * </p>
+ *
+ * <p>
+ * The router registers with the toolkit for the union of the events of its listeners and registers again when the
+ * union changes. It unregisters when the last listener is removed. All methods must be called from the event
+ * dispatching thread.
+ * </p>
+ *
+ * @author $Author: jesper $
+ * @version $Revision: 1.1 $
+ * @since IDW 1.7.0
+ */
+public class AWTEventRouter {
+  private static class Subscription {
+    private final AWTEventListener listener;
+    private final long eventMask;
+    private final int eventId;
+
+    Subscription(AWTEventListener listener, long eventMask, int eventId) {
+      this.listener = listener;
+      this.eventMask = eventMask;
+      this.eventId = eventId;
+    }
+  }
+
+  private static final Subscription[] NO_SUBSCRIPTIONS = new Subscription[0];
+
+  private static Subscription[] subscriptions = NO_SUBSCRIPTIONS;
+  private static final IdentityHashMap windowSubscriptions = new IdentityHashMap();
+
+  /**
+   * The event IDs of the window listeners, bit n is set for event ID {@link MouseEvent#MOUSE_FIRST} + n.
+   */
+  private static long windowEventIds;
+  private static long registeredEventMask;
+
+  private static final AWTEventListener eventListener = new AWTEventListener() {
+    public void eventDispatched(AWTEvent event) {
+      dispatch(event);
+    }
+  };
+
+  private AWTEventRouter() {
+  }
+
+  /**
+   * Adds a listener that receives the events for all components.
+   *
+   * @param listener  the listener
+   * @param eventMask the events to receive, a combination of {@link AWTEvent#MOUSE_EVENT_MASK} and
+   *                  {@link AWTEvent#MOUSE_MOTION_EVENT_MASK}
+   * @throws SecurityException if the router isn't allowed to listen to toolkit events
+   */
+  public static void addListener(AWTEventListener listener, long eventMask) {
+    updateRegistration(getEventMask() | eventMask);
+    subscriptions = add(subscriptions, new Subscription(listener, eventMask, 0));
+  }
+
+  /**
+   * Removes a listener added with {@link #addListener(AWTEventListener, long)}.
+   *
+   * @param listener the listener
+   */
+  public static void removeListener(AWTEventListener listener) {
+    subscriptions = remove(subscriptions, listener);
+    updateRegistration(getEventMask());
+  }
+
+  /**
+   * Adds a listener that only receives the events with an event ID for components inside a window.
+   *
+   * @param window   the window
+   * @param listener the listener
+   * @param eventId  the ID of the events to receive, for example {@link MouseEvent#MOUSE_ENTERED}
+   * @throws IllegalArgumentException if the event ID isn't a mouse or mouse motion event ID
+   * @throws SecurityException        if the router isn't allowed to listen to toolkit events
+   */
+  public static void addWindowListener(Window window, AWTEventListener listener, int eventId) {
+    if (eventId < MouseEvent.MOUSE_FIRST || eventId > MouseEvent.MOUSE_DRAGGED)
+      throw new IllegalArgumentException("Not a mouse event ID: " + eventId);
+
+    updateRegistration(getEventMask() | getEventMask(eventId));
+    Subscription[] s = (Subscription[]) windowSubscriptions.get(window);
+    windowSubscriptions.put(window, add(s == null ? NO_SUBSCRIPTIONS : s,
+                                        new Subscription(listener, getEventMask(eventId), eventId)));
+    windowEventIds |= getEventIdBit(eventId);
+  }
+
+  /**
+   * Removes a listener added with {@link #addWindowListener(Window, AWTEventListener, int)}.
+   *
+   * @param window   the window
+   * @param listener the listener
+   */
+  public static void removeWindowListener(Window window, AWTEventListener listener) {
+    Subscription[] s = (Subscription[]) windowSubscriptions.get(window);
+
+    if (s == null)
+      return;
+
+    s = remove(s, listener);
+
+    if (s.length == 0)
+      windowSubscriptions.remove(window);
+    else
+      windowSubscriptions.put(window, s);
+
+    windowEventIds = 0;
+
+    for (Iterator it = windowSubscriptions.values().iterator(); it.hasNext();) {
+      Subscription[] ws = (Subscription[]) it.next();
+
+      for (int i = 0; i < ws.length; i++)
+        windowEventIds |= getEventIdBit(ws[i].eventId);
+    }
+
+    updateRegistration(getEventMask());
+  }
+
+  /**
+   * Returns true if the router is currently registered with the toolkit.
+   *
+   * @return true if the router is currently registered with the toolkit
+   */
+  public static boolean isRegistered() {
+    return registeredEventMask != 0;
+  }
+
+  /**
+   * Returns the union of the event masks of all listeners.
+   */
+  private static long getEventMask() {
+    long mask = 0;
+
+    for (int i = 0; i < subscriptions.length; i++)
+      mask |= subscriptions[i].eventMask;
+
+    for (Iterator it = windowSubscriptions.values().iterator(); it.hasNext();) {
+      Subscription[] ws = (Subscription[]) it.next();
+
+      for (int i = 0; i < ws.length; i++)
+        mask |= ws[i].eventMask;
+    }
+
+    return mask;
+  }
+
+  private static long getEventMask(int eventId) {
+    return eventId == MouseEvent.MOUSE_MOVED || eventId == MouseEvent.MOUSE_DRAGGED ?
+           AWTEvent.MOUSE_MOTION_EVENT_MASK : AWTEvent.MOUSE_EVENT_MASK;
+  }
+
+  private static long getEventIdBit(int eventId) {
+    return 1L << (eventId - MouseEvent.MOUSE_FIRST);
+  }
+
+  private static void updateRegistration(long eventMask) {
+    if (eventMask == registeredEventMask)
+      return;
+
+    Toolkit toolkit = Toolkit.getDefaultToolkit();
+
+    if ((registeredEventMask & ~eventMask) != 0) {
+      // Adding a listener that is already registered only adds events to its mask, so it's removed first
+      try {
+        toolkit.removeAWTEventListener(eventListener);
+      }
+      catch (SecurityException e) {
+        // Ignore
+      }
+
+      registeredEventMask = 0;
+    }
+
+    if (eventMask != 0) {
+      toolkit.addAWTEventListener(eventListener, eventMask);
+      registeredEventMask = eventMask;
+    }
+  }
+
+  private static Subscription[] add(Subscription[] s, Subscription subscription) {
+    Subscription[] newSubscriptions = new Subscription[s.length + 1];
+    System.arraycopy(s, 0, newSubscriptions, 0, s.length);
+    newSubscriptions[s.length] = subscription;
+    return newSubscriptions;
+  }
+
+  private static Subscription[] remove(Subscription[] s, AWTEventListener listener) {
+    for (int i = 0; i < s.length; i++) {
+      if (s[i].listener == listener) {
+        Subscription[] newSubscriptions = new Subscription[s.length - 1];
+        System.arraycopy(s, 0, newSubscriptions, 0, i);
+        System.arraycopy(s, i + 1, newSubscriptions, i, newSubscriptions.length - i);
+        return newSubscriptions;
+      }
+    }
+
+    return s;
+  }
+
+  private static void dispatch(AWTEvent event) {
+    int id = event.getID();
+    long mask = getEventMask(id);
+    Subscription[] s = subscriptions;
+
+    for (int i = 0; i < s.length; i++)
+      if ((s[i].eventMask & mask) != 0)
+        s[i].listener.eventDispatched(event);
+
+    if (id >= MouseEvent.MOUSE_FIRST && id <= MouseEvent.MOUSE_DRAGGED && (windowEventIds & getEventIdBit(id)) != 0 &&
+        event.getSource() instanceof Component) {
+      s = (Subscription[]) windowSubscriptions.get(ComponentUtil.getTopLevelAncestor((Component) event.getSource()));
+
+      if (s != null)
+        for (int i = 0; i < s.length; i++)
+          if (s[i].eventId == id)
+            s[i].listener.eventDispatched(event);
+    }
+  }
+}
@@ -29,6 +29,8 @@ import net.infonode.gui.panel.SimplePanel;
 
 import javax.swing.*;
 import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseMotionAdapter;
@@ -39,6 +41,8 @@ import java.util.ArrayList;
  * @version $Revision: 1.28 $
  */
 public class SimpleSplitPane extends BaseContainer {
+  private static final int FRAME_DELAY = 16;
+
   private LayoutManager splitLayout = new LayoutManager() {
     public void addLayoutComponent(String name, Component comp) {
     }
@@ -124,6 +128,16 @@ public class SimpleSplitPane extends BaseContainer {
   private int dividerSize = 6;
   private ArrayList listeners = new ArrayList(0);
   private Color dragIndicatorColor = Color.DARK_GRAY;
+  private boolean throttledLayout;
+  private int layoutTimeBudget = 40;
+  private boolean dragLayoutPending;
+  private boolean dragFallback;
+  private float pendingLocation;
+  private Timer dragTimer = new Timer(FRAME_DELAY, new ActionListener() {
+    public void actionPerformed(ActionEvent e) {
+      applyPendingLocation(true);
+    }
+  });
 
   public SimpleSplitPane(boolean horizontal) {
     this(horizontal, false);
@@ -135,6 +149,7 @@ public class SimpleSplitPane extends BaseContainer {
     setHorizontal(horizontal);
 
     setHeavyWeightDragIndicator(heavyWeightDragIndicator);
+    dragTimer.setRepeats(false);
 
     dividerPanel.addMouseListener(new MouseAdapter() {
       public void mousePressed(MouseEvent e) {
@@ -142,6 +157,8 @@ public class SimpleSplitPane extends BaseContainer {
           // MouseEventCoalesceManager.getInstance().isPressedAllowed(e))
           // {
           CursorManager.setGlobalCursor(getRootPane(), dividerPanel.getCursor());
+          dragFallback = false;
+
           if (dividerDraggable && !continuousLayout) {
             float location = (float) (getPos(dividerPanel.getLocation()) - getOffset() + getPos(e.getPoint())) / getViewSize();
             setDragIndicator(location);
@@ -155,10 +172,15 @@ public class SimpleSplitPane extends BaseContainer {
           // {
           CursorManager.resetGlobalCursor(getRootPane());
 
-          if (dividerDraggable && !continuousLayout) {
+          if (dividerDraggable && (!continuousLayout || dragFallback)) {
             dragIndicator.setVisible(false);
+            dragFallback = false;
             setDividerLocation(dragLocation);
           }
+          else if (dragLayoutPending) {
+            dragTimer.stop();
+            applyPendingLocation(false);
+          }
         }
       }
     });
@@ -168,10 +190,18 @@ public class SimpleSplitPane extends BaseContainer {
         if (dividerDraggable && /* MouseEventCoalesceManager.getInstance().isDraggedAllowed(e) && */(e.getModifiersEx() & MouseEvent.BUTTON1_DOWN_MASK) != 0) {
           float location = (float) (getPos(dividerPanel.getLocation()) - getOffset() + getPos(e.getPoint())) / getViewSize();
 
-          if (continuousLayout)
-            setDividerLocation(location);
-          else
+          if (!continuousLayout || dragFallback)
             setDragIndicator(location);
+          else if (throttledLayout) {
+            pendingLocation = location;
+
+            if (!dragLayoutPending) {
+              dragLayoutPending = true;
+              dragTimer.start();
+            }
+          }
+          else
+            setDividerLocation(location);
         }
       }
     });
@@ -216,6 +246,21 @@ public class SimpleSplitPane extends BaseContainer {
     dragIndicator.setBackground(dragIndicatorColor);
   }
 
+  private void applyPendingLocation(boolean dragging) {
+    if (!dragLayoutPending)
+      return;
+
+    dragLayoutPending = false;
+    long time = System.currentTimeMillis();
+    setDividerLocation(pendingLocation);
+    validate();
+
+    if (dragging && layoutTimeBudget > 0 && System.currentTimeMillis() - time > layoutTimeBudget) {
+      dragFallback = true;
+      setDragIndicator(pendingLocation);
+    }
+  }
+
   private void setDragIndicator(float location) {
     dragLocation = fixDividerLocation(location);
     dragIndicator.setVisible(true);
@@ -267,6 +312,47 @@ public class SimpleSplitPane extends BaseContainer {
     return continuousLayout;
   }
 
+  /**
+   * Enables/disables throttling of the continuous layout. When enabled the divider drag events are coalesced so that
+   * the split pane is laid out at most once per frame.
+   *
+   * @param value true to enable throttling
+   * @since IDW 1.7.0
+   */
+  public void setThrottledLayout(boolean value) {
+    throttledLayout = value;
+  }
+
+  /**
+   * Returns true if the continuous layout is throttled.
+   *
+   * @return true if the continuous layout is throttled
+   * @since IDW 1.7.0
+   */
+  public boolean isThrottledLayout() {
+    return throttledLayout;
+  }
+
+  /**
+   * Sets the maximum time a throttled layout may take before the drag indicator is used for the rest of the drag.
+   *
+   * @param millis the time budget in milliseconds, 0 disables the fallback
+   * @since IDW 1.7.0
+   */
+  public void setLayoutTimeBudget(int millis) {
+    layoutTimeBudget = millis;
+  }
+
+  /**
+   * Returns the maximum time a throttled layout may take before the drag indicator is used for the rest of the drag.
+   *
+   * @return the time budget in milliseconds, 0 if the fallback is disabled
+   * @since IDW 1.7.0
+   */
+  public int getLayoutTimeBudget() {
+    return layoutTimeBudget;
+  }
+
   public int getDividerSize() {
     return dividerSize;
   }
@@ -42,7 +42,20 @@ public class TextIconListCellRenderer extends DefaultListCellRenderer {
   }
 
   public void calculateMaximumIconWidth(Object[] list) {
-    width = IconUtil.getMaxIconWidth(list);
+    setMaximumIconWidth(IconUtil.getMaxIconWidth(list));
+  }
+
+  public void calculateMaximumIconWidth(ListModel model) {
+    int max = 0;
+
+    for (int i = 0; i < model.getSize(); i++)
+      max = Math.max(max, IconUtil.getIconWidth(model.getElementAt(i)));
+
+    setMaximumIconWidth(max);
+  }
+
+  private void setMaximumIconWidth(int maxWidth) {
+    width = maxWidth;
     emptyIcon = width == 0 ? null : new Icon() {
       public int getIconHeight() {
         return 1;
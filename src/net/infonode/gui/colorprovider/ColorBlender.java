@@ -29,7 +29,8 @@ import java.awt.Component;
 import net.infonode.util.ColorUtil;
 
 /**
- * Blends two colors according to the given blend amount.
+ * Blends two colors according to the given blend amount. The most recently blended colors are cached, so no new color
+ * is created as long as the source colors are unchanged.
  *
  * @author $Author: jesper $
  * @version $Revision: 1.6 $
@@ -40,6 +41,7 @@ public class ColorBlender extends AbstractColorProvider {
   private final ColorProvider color1;
   private final ColorProvider color2;
   private final float blendAmount;
+  private transient ColorMemo memo;
 
   /**
    * Constructor.
@@ -55,11 +57,32 @@ public class ColorBlender extends AbstractColorProvider {
   }
 
   public Color getColor(Component component) {
-    return ColorUtil.blend(color1.getColor(component), color2.getColor(component), blendAmount);
+    return blend(color1.getColor(component), color2.getColor(component));
   }
 
   public Color getColor() {
-    return ColorUtil.blend(color1.getColor(), color2.getColor(), blendAmount);
+    return blend(color1.getColor(), color2.getColor());
+  }
+
+  private Color blend(Color c1, Color c2) {
+    if (c1 == null || c2 == null)
+      return ColorUtil.blend(c1, c2, blendAmount);
+
+    ColorMemo m = memo;
+
+    if (m == null) {
+      m = new ColorMemo();
+      memo = m;
+    }
+
+    Color color = m.get(c1.getRGB(), c2.getRGB());
+
+    if (color == null) {
+      color = ColorUtil.blend(c1, c2, blendAmount);
+      m.put(c1.getRGB(), c2.getRGB(), color);
+    }
+
+    return color;
   }
 
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2004 NNL Technology AB
+ * Visit www.infonode.net for information about InfoNode(R) 
+ * products and how to contact NNL Technology AB.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, 
+ * MA 02111-1307, USA.
+ */
+
+
+package net.infonode.gui.colorprovider;
+
+import java.awt.*;
+
+/**
+ * A small cache of colors computed from one or two other colors. The colors are stored in a direct mapped table indexed
+ * by the RGB values of the source colors. The entries are immutable, so the cache can be used from multiple threads
+ * without locking.
+ *
+ * @author $Author: jesper $
+ * @version $Revision: 1.1 $
+ */
+class ColorMemo {
+  private static final int SIZE = 8;
+
+  private static class Entry {
+    private final int rgb1;
+    private final int rgb2;
+    private final Color color;
+
+    Entry(int rgb1, int rgb2, Color color) {
+      this.rgb1 = rgb1;
+      this.rgb2 = rgb2;
+      this.color = color;
+    }
+  }
+
+  private final Entry[] entries = new Entry[SIZE];
+
+  private static int getIndex(int rgb1, int rgb2) {
+    int h = rgb1 * 31 + rgb2;
+    h ^= h >>> 16;
+    return (h ^ h >>> 8) & (SIZE - 1);
+  }
+
+  Color get(int rgb1, int rgb2) {
+    Entry entry = entries[getIndex(rgb1, rgb2)];
+    return entry != null && entry.rgb1 == rgb1 && entry.rgb2 == rgb2 ? entry.color : null;
+  }
+
+  void put(int rgb1, int rgb2, Color color) {
+    entries[getIndex(rgb1, rgb2)] = new Entry(rgb1, rgb2, color);
+  }
+}
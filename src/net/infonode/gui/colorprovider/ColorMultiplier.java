@@ -29,7 +29,8 @@ import java.awt.Component;
 import net.infonode.util.ColorUtil;
 
 /**
- * Multiplies the RGB components of a color with the given factor.
+ * Multiplies the RGB components of a color with the given factor. The most recently multiplied colors are cached, so no
+ * new color is created as long as the source color is unchanged.
  *
  * @author $Author: jesper $
  * @version $Revision: 1.6 $
@@ -39,6 +40,7 @@ public class ColorMultiplier extends AbstractColorProvider {
 
   private final ColorProvider colorProvider;
   private final double factor;
+  private transient ColorMemo memo;
 
   /**
    * Constructor.
@@ -52,10 +54,31 @@ public class ColorMultiplier extends AbstractColorProvider {
   }
 
   public Color getColor(Component component) {
-    return ColorUtil.mult(colorProvider.getColor(component), factor);
+    return mult(colorProvider.getColor(component));
   }
 
   public Color getColor() {
-    return ColorUtil.mult(colorProvider.getColor(), factor);
+    return mult(colorProvider.getColor());
+  }
+
+  private Color mult(Color c) {
+    if (c == null)
+      return null;
+
+    ColorMemo m = memo;
+
+    if (m == null) {
+      m = new ColorMemo();
+      memo = m;
+    }
+
+    Color color = m.get(c.getRGB(), 0);
+
+    if (color == null) {
+      color = ColorUtil.mult(c, factor);
+      m.put(c.getRGB(), 0, color);
+    }
+
+    return color;
   }
 }
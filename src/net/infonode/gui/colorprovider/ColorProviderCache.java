@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2004 NNL Technology AB
+ * Visit www.infonode.net for information about InfoNode(R) 
+ * products and how to contact NNL Technology AB.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, 
+ * MA 02111-1307, USA.
+ */
+
+
+package net.infonode.gui.colorprovider;
+
+import net.infonode.gui.DynamicUIManager;
+import net.infonode.gui.DynamicUIManagerListener;
+
+/**
+ * <p>
+ * Holds the color epoch which is used by the color providers to know when their cached colors must be recomputed. The
+ * epoch is increased when the look and feel or the UI defaults change, and can also be increased by the application
+ * using {@link #invalidate()}.
+ * </p>
+ *
+ * <p>
+ * Custom color providers that cache colors obtained from sources outside the component, for example from the
+ * {@link javax.swing.UIManager}, can store the epoch together with the cached color and recompute the color when the
+ * epoch has changed.
+ * </p>
+ *
+ * @author $Author: jesper $
+ * @version $Revision: 1.1 $
+ * @since IDW 1.7.0
+ */
+public class ColorProviderCache {
+  private static volatile int epoch;
+
+  static {
+    DynamicUIManager.getInstance().addPrioritizedListener(new DynamicUIManagerListener() {
+      public void lookAndFeelChanging() {
+        invalidate();
+      }
+
+      public void lookAndFeelChanged() {
+        invalidate();
+      }
+
+      public void propertiesChanging() {
+        invalidate();
+      }
+
+      public void propertiesChanged() {
+        invalidate();
+      }
+    });
+  }
+
+  private ColorProviderCache() {
+  }
+
+  /**
+   * Returns the current color epoch.
+   *
+   * @return the current color epoch
+   */
+  public static int getEpoch() {
+    return epoch;
+  }
+
+  /**
+   * Increases the color epoch, which invalidates all colors cached by the color providers.
+   */
+  public static synchronized void invalidate() {
+    epoch++;
+  }
+}
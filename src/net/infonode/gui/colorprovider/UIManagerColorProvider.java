@@ -28,7 +28,8 @@ import java.awt.Color;
 import javax.swing.UIManager;
 
 /**
- * A {@link ColorProvider} which returns a property color from the {@link UIManager}.
+ * A {@link ColorProvider} which returns a property color from the {@link UIManager}. The color is cached until the
+ * {@link ColorProviderCache color epoch} changes.
  *
  * @author $Author: jesper $
  * @version $Revision: 1.11 $
@@ -77,8 +78,19 @@ public class UIManagerColorProvider extends AbstractColorProvider {
   public static final UIManagerColorProvider DESKTOP_BACKGROUND = new UIManagerColorProvider("Desktop.background",
       Color.BLUE);
 
+  private static class CachedColor {
+    private final int epoch;
+    private final Color color;
+
+    CachedColor(int epoch, Color color) {
+      this.epoch = epoch;
+      this.color = color;
+    }
+  }
+
   private final String propertyName;
   private Color defaultColor;
+  private transient volatile CachedColor cachedColor;
 
   /**
    * Constructor.
@@ -101,8 +113,15 @@ public class UIManagerColorProvider extends AbstractColorProvider {
   }
 
   public Color getColor() {
-    Color color = UIManager.getColor(propertyName);
+    int epoch = ColorProviderCache.getEpoch();
+    CachedColor cached = cachedColor;
+
+    if (cached != null && cached.epoch == epoch)
+      return cached.color;
 
-    return color == null ? defaultColor : color;
+    Color color = UIManager.getColor(propertyName);
+    color = color == null ? defaultColor : color;
+    cachedColor = new CachedColor(epoch, color);
+    return color;
   }
 }
@@ -0,0 +1,254 @@
+/*
+ * Copyright (C) 2004 NNL Technology AB
+ * Visit www.infonode.net for information about InfoNode(R) 
+ * products and how to contact NNL Technology AB.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, 
+ * MA 02111-1307, USA.
+ */
+
+
+package net.infonode.gui.componentpainter;
+
+import net.infonode.util.ImageUtils;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A process wide cache for the gradient images painted by {@link GradientComponentPainter}'s. Painters with the same
+ * corner colors, direction and flips share the same image. The images are created compatible with the graphics
+ * configuration they are painted on so that they can be scaled by the accelerated pipeline.
+ * <p>
+ * The total size of the cached images is limited by a byte budget, when it's exceeded the least recently used images
+ * are evicted.
+ *
+ * @author $Author: jesper $
+ * @version $Revision: 1.1 $
+ * @since IDW 1.7.0
+ */
+public class GradientImageCache {
+  private static final GradientImageCache INSTANCE = new GradientImageCache();
+
+  /**
+   * The default maximum size of the cache in bytes.
+   */
+  public static final long DEFAULT_MAX_BYTES = 8 * 1024 * 1024;
+
+  static class Key {
+    private final int[] colors;
+    private final int size;
+    private final GraphicsConfiguration configuration;
+    private final int hashCode;
+
+    Key(Color[] colors, int size, GraphicsConfiguration configuration) {
+      this.colors = new int[colors.length];
+
+      for (int i = 0; i < colors.length; i++)
+        this.colors[i] = colors[i].getRGB();
+
+      this.size = size;
+      this.configuration = configuration;
+
+      int h = size;
+
+      for (int i = 0; i < this.colors.length; i++)
+        h = h * 31 + this.colors[i];
+
+      hashCode = h * 31 + (configuration == null ? 0 : System.identityHashCode(configuration));
+    }
+
+    GraphicsConfiguration getConfiguration() {
+      return configuration;
+    }
+
+    private boolean hasAlpha() {
+      for (int i = 0; i < colors.length; i++) {
+        if ((colors[i] >>> 24) != 255)
+          return true;
+      }
+
+      return false;
+    }
+
+    public boolean equals(Object o) {
+      if (this == o)
+        return true;
+
+      if (!(o instanceof Key))
+        return false;
+
+      Key k = (Key) o;
+
+      if (k.hashCode != hashCode || k.size != size || k.configuration != configuration)
+        return false;
+
+      for (int i = 0; i < colors.length; i++) {
+        if (k.colors[i] != colors[i])
+          return false;
+      }
+
+      return true;
+    }
+
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+
+  private final LinkedHashMap images = new LinkedHashMap(16, 0.75f, true);
+  private long maxBytes = DEFAULT_MAX_BYTES;
+  private long bytes;
+  private int hitCount;
+  private int missCount;
+  private int evictionCount;
+
+  private GradientImageCache() {
+  }
+
+  /**
+   * Returns the only instance of this class.
+   *
+   * @return the only instance of this class
+   */
+  public static GradientImageCache getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Returns the maximum total size in bytes of the images in the cache.
+   *
+   * @return the maximum total size in bytes of the images in the cache
+   */
+  public synchronized long getMaxBytes() {
+    return maxBytes;
+  }
+
+  /**
+   * Sets the maximum total size in bytes of the images in the cache. Images are evicted if the cache is larger than the
+   * new size.
+   *
+   * @param maxBytes the maximum total size in bytes of the images in the cache
+   */
+  public synchronized void setMaxBytes(long maxBytes) {
+    this.maxBytes = maxBytes;
+    evict();
+  }
+
+  /**
+   * Returns the total size in bytes of the images in the cache.
+   *
+   * @return the total size in bytes of the images in the cache
+   */
+  public synchronized long getBytes() {
+    return bytes;
+  }
+
+  /**
+   * Returns the number of images in the cache.
+   *
+   * @return the number of images in the cache
+   */
+  public synchronized int getImageCount() {
+    return images.size();
+  }
+
+  /**
+   * Returns the number of image requests that were served from the cache.
+   *
+   * @return the number of image requests that were served from the cache
+   */
+  public synchronized int getHitCount() {
+    return hitCount;
+  }
+
+  /**
+   * Returns the number of image requests that required a new image to be created.
+   *
+   * @return the number of image requests that required a new image to be created
+   */
+  public synchronized int getMissCount() {
+    return missCount;
+  }
+
+  /**
+   * Returns the number of images that have been evicted from the cache because the maximum size was exceeded.
+   *
+   * @return the number of images that have been evicted from the cache
+   */
+  public synchronized int getEvictionCount() {
+    return evictionCount;
+  }
+
+  /**
+   * Removes all images from the cache and resets the counters.
+   */
+  public synchronized void clear() {
+    images.clear();
+    bytes = 0;
+    hitCount = 0;
+    missCount = 0;
+    evictionCount = 0;
+  }
+
+  synchronized Image getImage(Key key) {
+    Image image = (Image) images.get(key);
+
+    if (image != null) {
+      hitCount++;
+      return image;
+    }
+
+    missCount++;
+    image = createImage(key);
+    images.put(key, image);
+    bytes += getByteSize(key);
+    evict();
+    return image;
+  }
+
+  private void evict() {
+    for (Iterator it = images.entrySet().iterator(); bytes > maxBytes && it.hasNext();) {
+      Map.Entry entry = (Map.Entry) it.next();
+      it.remove();
+      bytes -= getByteSize((Key) entry.getKey());
+      evictionCount++;
+    }
+  }
+
+  private static long getByteSize(Key key) {
+    return (long) key.size * key.size * 4;
+  }
+
+  private static Image createImage(Key key) {
+    int transparency = key.hasAlpha() ? Transparency.TRANSLUCENT : Transparency.OPAQUE;
+    BufferedImage image = key.configuration == null ?
+                          new BufferedImage(key.size,
+                                            key.size,
+                                            transparency == Transparency.OPAQUE ?
+                                            BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB) :
+                          key.configuration.createCompatibleImage(key.size, key.size, transparency);
+    Color[] colors = new Color[key.colors.length];
+
+    for (int i = 0; i < colors.length; i++)
+      colors[i] = new Color(key.colors[i], true);
+
+    image.setRGB(0, 0, key.size, key.size, ImageUtils.createGradientPixels(colors, key.size, key.size), 0, key.size);
+    return image;
+  }
+}
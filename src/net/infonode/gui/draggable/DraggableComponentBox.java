@@ -28,6 +28,7 @@ import java.awt.*;
 import java.awt.event.ComponentAdapter;
 import java.awt.event.ComponentEvent;
 import java.util.ArrayList;
+import java.util.HashMap;
 
 import javax.swing.JComponent;
 import javax.swing.SwingUtilities;
@@ -38,6 +39,40 @@ import net.infonode.gui.panel.SimplePanel;
 import net.infonode.util.Direction;
 
 public class DraggableComponentBox extends SimplePanel {
+  /**
+   * A list that keeps a component to index map so that {@link #indexOf} doesn't have to search the list. The map is
+   * rebuilt on the first lookup after the list has been modified.
+   */
+  private static class LayoutOrderList extends ArrayList {
+    private static final long serialVersionUID = 1;
+
+    private HashMap indices;
+    private int indicesModCount;
+
+    LayoutOrderList(int initialCapacity) {
+      super(initialCapacity);
+    }
+
+    public int indexOf(Object o) {
+      if (indices == null || indicesModCount != modCount) {
+        indices = new HashMap(size() * 2);
+
+        for (int i = size() - 1; i >= 0; i--)
+          indices.put(get(i), Integer.valueOf(i));
+
+        indicesModCount = modCount;
+      }
+
+      Integer index = (Integer) indices.get(o);
+      return index == null ? -1 : index.intValue();
+    }
+
+    public Object set(int index, Object element) {
+      indices = null;
+      return super.set(index, element);
+    }
+  }
+
   private final boolean componentBoxEnabled = true;
 
   private final JComponent componentBox;
@@ -46,6 +81,7 @@ public class DraggableComponentBox extends SimplePanel {
   private JComponent outerParentArea = this;
   private Direction componentDirection = Direction.UP;
   private boolean scrollEnabled = false;
+  private boolean virtualized;
   private boolean ensureSelectedVisible;
   private boolean autoSelect = true;
   private boolean descendingSortOrder = true;
@@ -59,7 +95,9 @@ public class DraggableComponentBox extends SimplePanel {
   private DraggableComponent topComponent;
   private ArrayList listeners;
   private final ArrayList draggableComponentList = new ArrayList(10);
-  private final ArrayList layoutOrderList = new ArrayList(10);
+  private final ArrayList layoutOrderList = new LayoutOrderList(10);
+  private final HashMap virtualSizes = new HashMap();
+  private int lastReorderCount;
 
   private ScrollButtonBox scrollButtonBox;
 
@@ -119,6 +157,7 @@ public class DraggableComponentBox extends SimplePanel {
           //long millis = System.currentTimeMillis();
           doSort();
           super.layoutContainer(parent);
+          updateRealizedComponents();
           //System.out.println("Layout: " + (System.currentTimeMillis() - millis));
         }
       }
@@ -127,6 +166,18 @@ public class DraggableComponentBox extends SimplePanel {
         doSort();
         return super.preferredLayoutSize(parent);
       }
+
+      protected Dimension getComponentPreferredSize(Component component) {
+        return isVirtualizing() ? getVirtualSize(component, 0) : super.getComponentPreferredSize(component);
+      }
+
+      protected Dimension getComponentMinimumSize(Component component) {
+        return isVirtualizing() ? getVirtualSize(component, 1) : super.getComponentMinimumSize(component);
+      }
+
+      protected Dimension getComponentMaximumSize(Component component) {
+        return isVirtualizing() ? getVirtualSize(component, 2) : super.getComponentMaximumSize(component);
+      }
     };
 
     layout.setLayoutOrderList(layoutOrderList);
@@ -135,6 +186,13 @@ public class DraggableComponentBox extends SimplePanel {
       public boolean isOptimizedDrawingEnabled() {
         return DraggableComponentBox.this != null && getComponentSpacing() >= 0;
       }
+
+      public void setBounds(int x, int y, int width, int height) {
+        super.setBounds(x, y, width, height);
+
+        if (DraggableComponentBox.this != null)
+          updateRealizedComponents();
+      }
     };
 
     componentBox.addComponentListener(new ComponentAdapter() {
@@ -255,6 +313,7 @@ public class DraggableComponentBox extends SimplePanel {
       }
       draggableComponentList.remove(component);
       layoutOrderList.remove(component.getComponent());
+      virtualSizes.remove(component.getComponent());
       componentBox.remove(component.getComponent());
       componentBox.revalidate();
       //componentBox.validate();
@@ -293,6 +352,9 @@ public class DraggableComponentBox extends SimplePanel {
   }
 
   public Component[] getBoxComponents() {
+    if (componentBox.getComponentCount() < layoutOrderList.size())
+      return (Component[]) layoutOrderList.toArray(new Component[layoutOrderList.size()]);
+
     return componentBox.getComponents();
   }
 
@@ -315,10 +377,38 @@ public class DraggableComponentBox extends SimplePanel {
   public void setScrollEnabled(boolean scrollEnabled) {
     if (scrollEnabled != this.scrollEnabled) {
       this.scrollEnabled = scrollEnabled;
+      updateRealizedComponents();
       initialize();
     }
   }
 
+  /**
+   * Returns true if only the components in and near the visible part of the box are added to the box when scrolling is
+   * enabled.
+   *
+   * @return true if the box is virtualized
+   * @since IDW 1.7.0
+   */
+  public boolean isVirtualized() {
+    return virtualized;
+  }
+
+  /**
+   * Sets if only the components in and near the visible part of the box should be added to the box when scrolling is
+   * enabled. The other components are laid out using their last known sizes. This reduces the layout time for boxes
+   * with a large number of components.
+   *
+   * @param virtualized true if the box should be virtualized
+   * @since IDW 1.7.0
+   */
+  public void setVirtualized(boolean virtualized) {
+    if (virtualized != this.virtualized) {
+      this.virtualized = virtualized;
+      updateRealizedComponents();
+      componentBox.revalidate();
+    }
+  }
+
   public int getScrollOffset() {
     return scrollOffset;
   }
@@ -440,76 +530,96 @@ public class DraggableComponentBox extends SimplePanel {
     });
   }
 
-  // Prevents focus problems when adding/removing focused component while sorting when spacing < 0
-  private void setIgnoreAddRemoveNotify(boolean ignore) {
-    for (int i = 0; i < draggableComponentList.size(); i++)
-      ((DraggableComponent) draggableComponentList.get(i)).setIgnoreAddNotify(ignore);
+  /**
+   * Returns the number of components that were moved in the z-order the last time the components were depth sorted.
+   * The components are only depth sorted when the component spacing is negative, i.e. when the components overlap.
+   *
+   * @return the number of components that were moved in the z-order by the last depth sort
+   * @since IDW 1.7.0
+   */
+  public int getLastReorderCount() {
+    return lastReorderCount;
   }
 
+  // The components are moved with setComponentZOrder() which doesn't remove them from the box, so there are no
+  // add/remove notifications, container events or focus changes while sorting. When a component is out of place
+  // because another component has been moved in front of it, the other component is moved back instead, so the number
+  // of moves is proportional to the number of changed components and not to their distance in the list.
   private void doSort() {
     if (mustSort && getComponentSpacing() < 0 && componentBox.getComponentCount() > 0) {
-      setIgnoreAddRemoveNotify(true);
-
       mustSort = false;
-      Component c;
       Component tc = topComponent != null ? topComponent.getComponent() : null;
-
-      //componentBoxEnabled = false;
+      int topIndex = tc == null ? -1 : getSortOrderIndex(layoutOrderList.indexOf(tc));
+      int size = layoutOrderList.size();
+      int count = componentBox.getComponentCount();
+      int switc = 0;
 
       //long millis = System.currentTimeMillis();
 
-      int index = 0;
-      if (tc != null) {
-        if (componentBox.getComponent(0) != tc) {
-          componentBox.remove(tc);
-          componentBox.add(tc, index);
-        }
-        index++;
-      }
+      if (count < size) {
+        // Virtualized, only the components in the box are sorted
+        int boxIndex = 0;
 
-      int switc = 0;
-      int size = layoutOrderList.size();
-      for (int i = 0; i < size; i++) {
-        c = (Component) layoutOrderList.get(doReverseSort ? size - i - 1 : i);
-        if (c != tc) {
-          if (componentBox.getComponent(index) != c) {
-            switc++;
-            componentBox.remove(c);
-            componentBox.add(c, index);
+        for (int index = 0; index < size; index++) {
+          Component c = getSortedComponent(index, topIndex);
+
+          if (c.getParent() == componentBox) {
+            if (componentBox.getComponent(boxIndex) != c) {
+              componentBox.setComponentZOrder(c, boxIndex);
+              switc++;
+            }
+
+            boxIndex++;
           }
-          index++;
         }
-      }
 
-      setIgnoreAddRemoveNotify(false);
+        lastReorderCount = switc;
+        return;
+      }
 
-      /*System.out.print("  Box:   ");
-      for (int i = 0; i < componentBox.getComponentCount(); i++)
-        System.out.print(componentBox.getComponent(i) + "  ");
-      System.out.println();
-      System.out.print("  Order: ");
-      for (int i = 0; i < layoutOrderList.size(); i++)
-        System.out.print(layoutOrderList.get(i) + "  ");*/
-      //System.out.println();
-      /*			long millis = System.currentTimeMillis();
-			componentBox.removeAll();
+      for (int index = 0; index < size && index < count; index++) {
+        Component c = getSortedComponent(index, topIndex);
+        Component current = componentBox.getComponent(index);
 
-			if (tc != null)
-				componentBox.add(tc);
+        if (current != c) {
+          switc++;
 
-			int size = layoutOrderList.size();
-			for (int i = 0; i < size; i++) {
-				c = (Component) layoutOrderList.get(doReverseSort ? size - i - 1 : i);
-				if (c != tc)
-					componentBox.add(c);
-			}*/
+          if (index + 1 < count && componentBox.getComponent(index + 1) == c)
+            componentBox.setComponentZOrder(current, Math.min(getSortedIndex(current, tc, topIndex), count - 1));
+          else
+            componentBox.setComponentZOrder(c, index);
+        }
+      }
 
-      //componentBoxEnabled = true;
+      lastReorderCount = switc;
 
       //System.out.println("Sorting " + scount++ + "  time: " + (System.currentTimeMillis() - millis) + "  Sorted: " + switc);
     }
   }
 
+  private int getSortOrderIndex(int layoutIndex) {
+    return layoutIndex == -1 || !doReverseSort ? layoutIndex : layoutOrderList.size() - layoutIndex - 1;
+  }
+
+  private Component getSortedComponent(int index, int topIndex) {
+    if (topIndex != -1) {
+      if (index == 0)
+        return (Component) layoutOrderList.get(getSortOrderIndex(topIndex));
+
+      index = index - 1 < topIndex ? index - 1 : index;
+    }
+
+    return (Component) layoutOrderList.get(getSortOrderIndex(index));
+  }
+
+  private int getSortedIndex(Component c, Component tc, int topIndex) {
+    if (c == tc)
+      return 0;
+
+    int index = getSortOrderIndex(layoutOrderList.indexOf(c));
+    return index == -1 ? Integer.MAX_VALUE : topIndex != -1 && index < topIndex ? index + 1 : index;
+  }
+
   private void sortComponentList(boolean reverseSort) {
     this.doReverseSort = reverseSort;
     mustSort = true;
@@ -527,7 +637,94 @@ public class DraggableComponentBox extends SimplePanel {
     return layoutOrderList.indexOf(c);
   }
 
+  private boolean isVirtualizing() {
+    return virtualized && scrollEnabled;
+  }
+
+  private Dimension getVirtualSize(Component component, int type) {
+    Dimension[] sizes = (Dimension[]) virtualSizes.get(component);
+
+    if (sizes == null) {
+      sizes = new Dimension[3];
+      virtualSizes.put(component, sizes);
+    }
+
+    if (sizes[type] == null || component.getParent() == componentBox)
+      sizes[type] = type == 0 ? component.getPreferredSize() :
+                    type == 1 ? component.getMinimumSize() : component.getMaximumSize();
+
+    return sizes[type];
+  }
+
+  // Adds the components that are in or near the visible part of the scrollable box and removes the others. The
+  // selected, top and focused components are always kept in the box.
+  private void updateRealizedComponents() {
+    int size = layoutOrderList.size();
+
+    if (!isVirtualizing()) {
+      if (componentBox.getComponentCount() < size) {
+        for (int i = 0; i < size; i++) {
+          Component c = (Component) layoutOrderList.get(i);
+
+          if (c.getParent() != componentBox)
+            componentBox.add(c, i);
+          else if (componentBox.getComponent(i) != c)
+            componentBox.setComponentZOrder(c, i);
+        }
+
+        sortComponentList(!descendingSortOrder);
+        componentBox.revalidate();
+      }
+
+      virtualSizes.clear();
+      return;
+    }
+
+    boolean vertical = getDirectionLayout().isVertical();
+    int viewSize = vertical ? componentContainer.getHeight() : componentContainer.getWidth();
+
+    if (viewSize == 0)
+      return;
+
+    int start = -(vertical ? componentBox.getY() : componentBox.getX()) - viewSize;
+    int end = start + 3 * viewSize;
+    Component focused = KeyboardFocusManager.getCurrentKeyboardFocusManager().getFocusOwner();
+
+    while (focused != null && focused.getParent() != componentBox)
+      focused = focused.getParent();
+
+    boolean changed = false;
+
+    for (int i = 0; i < size; i++) {
+      Component c = (Component) layoutOrderList.get(i);
+      int pos = vertical ? c.getY() : c.getX();
+      boolean realize = (pos < end && pos + (vertical ? c.getHeight() : c.getWidth()) > start) ||
+                        c == focused ||
+                        (selectedComponent != null && c == selectedComponent.getComponent()) ||
+                        (topComponent != null && c == topComponent.getComponent());
+
+      if (realize != (c.getParent() == componentBox)) {
+        if (realize)
+          componentBox.add(c);
+        else
+          componentBox.remove(c);
+
+        changed = true;
+      }
+    }
+
+    if (changed) {
+      sortComponentList(!descendingSortOrder);
+      componentBox.repaint();
+    }
+  }
+
   private void doSelectComponent(DraggableComponent component) {
+    if (isVirtualizing() && component != null && component.getComponent().getParent() != componentBox) {
+      componentBox.add(component.getComponent());
+      sortComponentList(!descendingSortOrder);
+    }
+
     if (selectedComponent != null) {
       DraggableComponent oldSelected = selectedComponent;
       selectedComponent = component;
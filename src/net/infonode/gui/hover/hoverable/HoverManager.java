@@ -30,11 +30,14 @@ import java.awt.event.HierarchyEvent;
 import java.awt.event.HierarchyListener;
 import java.awt.event.MouseEvent;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 
 import javax.swing.SwingUtilities;
 import javax.swing.event.MouseInputAdapter;
 
+import net.infonode.gui.AWTEventRouter;
 import net.infonode.gui.ComponentUtil;
 import net.infonode.util.ArrayUtil;
 
@@ -44,6 +47,10 @@ import net.infonode.util.ArrayUtil;
 public class HoverManager {
   private static HoverManager INSTANCE = new HoverManager();
 
+  private static final int MAX_CACHED_CHAINS = 256;
+
+  private static final Hoverable[] EMPTY_CHAIN = new Hoverable[0];
+
   private final HierarchyListener hierarchyListener = new HierarchyListener() {
     public void hierarchyChanged(final HierarchyEvent e) {
       SwingUtilities.invokeLater(new Runnable() {
@@ -60,6 +67,19 @@ public class HoverManager {
     }
   };
 
+  private final HierarchyListener sourceHierarchyListener = new HierarchyListener() {
+    public void hierarchyChanged(HierarchyEvent e) {
+      if ((e.getChangeFlags() & HierarchyEvent.PARENT_CHANGED) != 0) {
+        Component c = (Component) e.getSource();
+        c.removeHierarchyListener(this);
+        chainCache.remove(c);
+
+        if (c == lastSource)
+          lastSource = null;
+      }
+    }
+  };
+
   private final MouseInputAdapter mouseAdapter = new MouseInputAdapter() {
   };
 
@@ -67,6 +87,12 @@ public class HoverManager {
 
   private final ArrayList enteredComponents = new ArrayList();
 
+  private final ArrayList enterables = new ArrayList();
+
+  private final HashMap chainCache = new HashMap();
+
+  private Component lastSource;
+
   private boolean enabled = true;
 
   private boolean hasPermission = true;
@@ -102,6 +128,8 @@ public class HoverManager {
   }
 
   private void handleButtonEvent(MouseEvent event) {
+    lastSource = null;
+
     if (event.getID() == MouseEvent.MOUSE_PRESSED && event.getButton() == MouseEvent.BUTTON1) {
       enabled = false;
       isDrag = false;
@@ -140,42 +168,85 @@ public class HoverManager {
   private void handleEnterEvent(MouseEvent event) {
     gotEnterAfterExit = true;
 
-    ArrayList exitables = new ArrayList(enteredComponents);
-    ArrayList enterables = new ArrayList();
+    Component source = (Component) event.getSource();
 
-    if (event.getSource() instanceof Component) {
-      Component c = (Component) event.getSource();
-      while (c != null) {
-        if (hoverableComponents.contains(c)) {
-          exitables.remove(c);
-          enterables.add(c);
-        }
-  
-        c = c.getParent();
-      }
+    if (source == lastSource)
+      return;
+
+    Hoverable[] chain = getHoverableChain(source);
+
+    enterables.clear();
+
+    for (int i = 0; i < chain.length; i++)
+      enterables.add(chain[i]);
+
+    for (int i = chain.length - 1; i >= 0; i--) {
+      if (!chain[i].acceptHover(enterables))
+        enterables.remove(chain[i]);
     }
 
-    if (enterables.size() > 0) {
-      Object obj[] = enterables.toArray();
-      for (int i = obj.length - 1; i >= 0; i--) {
-        if (!((Hoverable) obj[i]).acceptHover(enterables)) {
-          enterables.remove(obj[i]);
-          exitables.add(obj[i]);
-        }
-      }
+    for (int i = 0; i < chain.length; i++) {
+      if (!enterables.contains(chain[i]))
+        dispatchExit(chain[i]);
     }
 
-    for (int i = exitables.size() - 1; i >= 0; i--) {
-      dispatchExit((Hoverable) exitables.get(i));
+    for (int i = enteredComponents.size() - 1; i >= 0; i--) {
+      if (i < enteredComponents.size()) {
+        Hoverable hoverable = (Hoverable) enteredComponents.get(i);
+
+        if (!ArrayUtil.contains(chain, hoverable))
+          dispatchExit(hoverable);
+      }
     }
 
     for (int i = enterables.size() - 1; i >= 0; i--) {
       dispatchEnter((Hoverable) enterables.get(i));
     }
+
+    enterables.clear();
+    lastSource = enabled ? source : null;
+  }
+
+  private Hoverable[] getHoverableChain(Component source) {
+    Hoverable[] chain = (Hoverable[]) chainCache.get(source);
+
+    if (chain == null) {
+      int count = 0;
+
+      for (Component c = source; c != null; c = c.getParent()) {
+        if (hoverableComponents.contains(c))
+          count++;
+      }
+
+      chain = count == 0 ? EMPTY_CHAIN : new Hoverable[count];
+      count = 0;
+
+      for (Component c = source; c != null; c = c.getParent()) {
+        if (hoverableComponents.contains(c))
+          chain[count++] = (Hoverable) c;
+      }
+
+      if (chainCache.size() >= MAX_CACHED_CHAINS)
+        clearChainCache();
+
+      chainCache.put(source, chain);
+      source.addHierarchyListener(sourceHierarchyListener);
+    }
+
+    return chain;
+  }
+
+  private void clearChainCache() {
+    for (Iterator it = chainCache.keySet().iterator(); it.hasNext();)
+      ((Component) it.next()).removeHierarchyListener(sourceHierarchyListener);
+
+    chainCache.clear();
+    lastSource = null;
   }
 
   private void handleExitEvent(MouseEvent event) {
     gotEnterAfterExit = false;
+    lastSource = null;
 
     SwingUtilities.invokeLater(new Runnable() {
       public void run() {
@@ -201,6 +272,7 @@ public class HoverManager {
 
   private void exitAll() {
     gotEnterAfterExit = false;
+    clearChainCache();
     Object[] obj = enteredComponents.toArray();
     for (int i = obj.length - 1; i >= 0; i--) {
       dispatchExit((Hoverable) obj[i]);
@@ -208,11 +280,21 @@ public class HoverManager {
   }
 
   public void init() {
+    lastSource = null;
     gotEnterAfterExit = false;
     isDrag = false;
     enabled = true;
   }
 
+  /**
+   * Notifies this manager that {@link Hoverable#acceptHover(ArrayList)} might return a different value for a
+   * hoverable, for example because a hover policy or hover listener has changed. Mouse moves over the same component
+   * are otherwise not checked again, the hovered hoverables are updated on the next mouse event.
+   */
+  public void acceptHoverChanged() {
+    lastSource = null;
+  }
+
   public void setEventListeningActive(boolean active) {
     this.active = active;
   }
@@ -223,13 +305,14 @@ public class HoverManager {
 
   private void addHoverListeners(Hoverable hoverable) {
     if (hoverableComponents.add(hoverable)) {
+      clearChainCache();
       Component c = (Component) hoverable;
       c.addMouseListener(mouseAdapter);
       c.addMouseMotionListener(mouseAdapter);
 
       if (active && hoverableComponents.size() == 1) {
         try {
-          Toolkit.getDefaultToolkit().addAWTEventListener(eventListener, AWTEvent.MOUSE_EVENT_MASK | AWTEvent.MOUSE_MOTION_EVENT_MASK);
+          AWTEventRouter.addListener(eventListener, AWTEvent.MOUSE_EVENT_MASK | AWTEvent.MOUSE_MOTION_EVENT_MASK);
           hasPermission = true;
         } catch (SecurityException e) {
           hasPermission = false;
@@ -240,12 +323,13 @@ public class HoverManager {
 
   private void removeHoverListeners(Hoverable hoverable) {
     if (hoverableComponents.remove(hoverable)) {
+      clearChainCache();
       ((Component) hoverable).removeMouseListener(mouseAdapter);
       ((Component) hoverable).removeMouseMotionListener(mouseAdapter);
       dispatchExit(hoverable);
 
       if (hasPermission && hoverableComponents.size() == 0) {
-        Toolkit.getDefaultToolkit().removeAWTEventListener(eventListener);
+        AWTEventRouter.removeListener(eventListener);
       }
     }
   }
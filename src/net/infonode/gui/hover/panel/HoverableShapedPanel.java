@@ -70,6 +70,7 @@ public class HoverableShapedPanel extends ShapedPanel implements Hoverable {
       // HoverManager.getInstance().removeHoverable(this);
 
       hoverListener = newHoverListener;
+      HoverManager.getInstance().acceptHoverChanged();
 
       // if (oldHoverListener == null && newHoverListener != null)
       // HoverManager.getInstance().addHoverable(this);
@@ -24,12 +24,22 @@
 package net.infonode.gui.icon.button;
 
 import net.infonode.gui.ComponentUtil;
+import net.infonode.gui.colorprovider.ColorProviderCache;
 import net.infonode.util.ColorUtil;
 
 import javax.swing.*;
 import java.awt.*;
 import java.io.Serializable;
 
+/**
+ * Base class for the button icons. The icon is painted in the foreground color of the component, or the disabled
+ * foreground color of the look and feel if the icon is disabled, with an optional shadow.
+ * <p>
+ * Icons that return a shape key from {@link #getShapeKey()} are cached as images by the {@link ButtonIconCache}, so
+ * they are only painted by {@link #paintIcon(Component, Graphics, int, int, int, int, boolean)} the first time they are
+ * painted with a specific size, colors and device scale. The built-in icons opt in to the caching, subclasses of them
+ * don't unless they override {@link #getShapeKey()} themselves.
+ */
 public abstract class AbstractButtonIcon implements Icon, Serializable {
   private static final long serialVersionUID = 1;
 
@@ -39,6 +49,9 @@ public abstract class AbstractButtonIcon implements Icon, Serializable {
   private float shadowStrength = 0.3f;
   private boolean enabled = true;
 
+  private static Color disabledForeground;
+  private static int disabledForegroundEpoch = -1;
+
   public AbstractButtonIcon() {
   }
 
@@ -85,16 +98,54 @@ public abstract class AbstractButtonIcon implements Icon, Serializable {
     this.shadowStrength = shadowStrength;
   }
 
+  int getSize() {
+    return size;
+  }
+
+  /**
+   * Returns a key identifying the shape painted by this icon, apart from the size and colors. Icons of the same class
+   * with equal shape keys must paint identical images, so an icon that paints from the component or from other state
+   * must not return a key. The default implementation returns null, which means that the icon is always painted
+   * directly.
+   *
+   * @return the shape key, null if this icon must always be painted directly
+   * @since IDW 1.7.0
+   */
+  protected Object getShapeKey() {
+    return null;
+  }
+
   public void paintIcon(Component c, Graphics g, int x, int y) {
-    Color oldColor = g.getColor();
     Color color = defaultColor == null ?
-                  (enabled ? c.getForeground() : UIManager.getColor("Button.disabledForeground")) :
+                  (enabled ? c.getForeground() : getDisabledForeground()) :
                   defaultColor;
+    Color background = shadowEnabled || color == null ? ComponentUtil.getBackgroundColor(c) : null;
+
     if (color == null)
-      color = ColorUtil.blend(ComponentUtil.getBackgroundColor(c), c.getForeground(), 0.5f);
+      color = ColorUtil.blend(background, c.getForeground(), 0.5f);
+
+    Object shapeKey = getShapeKey();
+
+    if (shapeKey == null || color == null ||
+        !ButtonIconCache.getInstance().paintIcon(this, shapeKey, c, g, x, y, color, background))
+      paintShape(c, g, x, y, color, background);
+  }
+
+  private static Color getDisabledForeground() {
+    int epoch = ColorProviderCache.getEpoch();
+
+    if (disabledForegroundEpoch != epoch) {
+      disabledForeground = UIManager.getColor("Button.disabledForeground");
+      disabledForegroundEpoch = epoch;
+    }
+
+    return disabledForeground;
+  }
+
+  void paintShape(Component c, Graphics g, int x, int y, Color color, Color background) {
+    Color oldColor = g.getColor();
 
     if (shadowEnabled) {
-      Color background = ComponentUtil.getBackgroundColor(c);
       g.setColor(ColorUtil.blend(background == null ? Color.BLACK : background, Color.BLACK, shadowStrength));
       paintIcon(c, g, x + 2, y + 2, x + size - 1, y + size - 1, true);
       g.setColor(color);
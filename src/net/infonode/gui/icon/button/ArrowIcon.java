@@ -57,6 +57,10 @@ public class ArrowIcon extends AbstractButtonIcon {
     return direction;
   }
 
+  protected Object getShapeKey() {
+    return getClass() == ArrowIcon.class ? direction : null;
+  }
+
   protected void paintIcon(Component c, Graphics g, int x1, int y1, int x2, int y2) {
     int size = (x2 - x1 + 1) + ((x2 - x1 + 1) % 2) - 1;
     int offset = (direction.isHorizontal() ? x1 : y1) +
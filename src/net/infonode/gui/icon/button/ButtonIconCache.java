@@ -0,0 +1,378 @@
+/*
+ * Copyright (C) 2004 NNL Technology AB
+ * Visit www.infonode.net for information about InfoNode(R) 
+ * products and how to contact NNL Technology AB.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, 
+ * MA 02111-1307, USA.
+ */
+
+
+package net.infonode.gui.icon.button;
+
+import net.infonode.gui.DynamicUIManager;
+import net.infonode.gui.DynamicUIManagerListener;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * <p>
+ * A process wide cache for the images painted by {@link AbstractButtonIcon}'s. An icon is rendered once, including the
+ * shadow, into an image compatible with the graphics configuration and is then drawn as an image. The images are keyed
+ * by the icon class and shape, the size, the icon and background colors, the shadow strength, the device scale and the
+ * graphics configuration.
+ * </p>
+ *
+ * <p>
+ * Icons are only drawn from the cache when the result is identical to painting the icon directly, that is when the
+ * graphics transform is a translation to whole device pixels combined with an integer uniform scale, the composite is
+ * source over, the stroke is the default stroke and antialiasing is off. In all other cases the icon is painted
+ * directly.
+ * </p>
+ *
+ * <p>
+ * The total size of the cached images is limited by a byte budget, when it's exceeded the least recently used images
+ * are evicted. All images are removed when the look and feel or the UI defaults change.
+ * </p>
+ *
+ * @author $Author: jesper $
+ * @version $Revision: 1.1 $
+ * @since IDW 1.7.0
+ */
+public class ButtonIconCache {
+  private static final ButtonIconCache INSTANCE = new ButtonIconCache();
+
+  /**
+   * The default maximum size of the cache in bytes.
+   */
+  public static final long DEFAULT_MAX_BYTES = 1024 * 1024;
+
+  private static final Stroke DEFAULT_STROKE = new BasicStroke();
+
+  /**
+   * Lines painted with a scaled transform can cover device pixels just outside the icon bounds, so the images have a
+   * margin of this many pixels around the icon.
+   */
+  private static final int MARGIN = 1;
+
+  private static class Key {
+    private Class iconClass;
+    private Object shapeKey;
+    private int size;
+    private int color;
+    private int background;
+    private boolean shadowEnabled;
+    private float shadowStrength;
+    private int scale;
+    private GraphicsConfiguration configuration;
+    private int hashCode;
+
+    void set(AbstractButtonIcon icon, Object shapeKey, Color color, Color background, int scale,
+             GraphicsConfiguration configuration) {
+      iconClass = icon.getClass();
+      this.shapeKey = shapeKey;
+      size = icon.getSize();
+      this.color = color.getRGB();
+      this.background = background == null ? 0 : background.getRGB();
+      shadowEnabled = icon.isShadowEnabled();
+      shadowStrength = shadowEnabled ? icon.getShadowStrength() : 0;
+      this.scale = scale;
+      this.configuration = configuration;
+
+      int h = iconClass.hashCode() * 31 + shapeKey.hashCode();
+      h = h * 31 + size;
+      h = h * 31 + this.color;
+      h = h * 31 + this.background;
+      h = h * 31 + Float.floatToIntBits(shadowStrength);
+      h = h * 31 + scale;
+      hashCode = h * 31 + System.identityHashCode(configuration);
+    }
+
+    Key copy() {
+      Key key = new Key();
+      key.iconClass = iconClass;
+      key.shapeKey = shapeKey;
+      key.size = size;
+      key.color = color;
+      key.background = background;
+      key.shadowEnabled = shadowEnabled;
+      key.shadowStrength = shadowStrength;
+      key.scale = scale;
+      key.configuration = configuration;
+      key.hashCode = hashCode;
+      return key;
+    }
+
+    void clear() {
+      iconClass = null;
+      shapeKey = null;
+      configuration = null;
+    }
+
+    long getByteSize() {
+      long imageSize = (size + 2 * MARGIN) * scale;
+      return imageSize * imageSize * 4;
+    }
+
+    public boolean equals(Object o) {
+      if (this == o)
+        return true;
+
+      if (!(o instanceof Key))
+        return false;
+
+      Key k = (Key) o;
+      return k.hashCode == hashCode &&
+             k.iconClass == iconClass &&
+             k.size == size &&
+             k.color == color &&
+             k.background == background &&
+             k.shadowEnabled == shadowEnabled &&
+             k.shadowStrength == shadowStrength &&
+             k.scale == scale &&
+             k.configuration == configuration &&
+             k.shapeKey.equals(shapeKey);
+    }
+
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+
+  private final LinkedHashMap images = new LinkedHashMap(16, 0.75f, true);
+  private final Key probe = new Key();
+  private long maxBytes = DEFAULT_MAX_BYTES;
+  private long bytes;
+  private int hitCount;
+  private int missCount;
+  private int evictionCount;
+
+  private ButtonIconCache() {
+    DynamicUIManager.getInstance().addPrioritizedListener(new DynamicUIManagerListener() {
+      public void lookAndFeelChanging() {
+      }
+
+      public void lookAndFeelChanged() {
+        removeImages();
+      }
+
+      public void propertiesChanging() {
+      }
+
+      public void propertiesChanged() {
+        removeImages();
+      }
+    });
+  }
+
+  /**
+   * Returns the only instance of this class.
+   *
+   * @return the only instance of this class
+   */
+  public static ButtonIconCache getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Returns the maximum total size in bytes of the images in the cache.
+   *
+   * @return the maximum total size in bytes of the images in the cache
+   */
+  public synchronized long getMaxBytes() {
+    return maxBytes;
+  }
+
+  /**
+   * Sets the maximum total size in bytes of the images in the cache. Images are evicted if the cache is larger than the
+   * new size. A size of 0 disables the cache.
+   *
+   * @param maxBytes the maximum total size in bytes of the images in the cache
+   */
+  public synchronized void setMaxBytes(long maxBytes) {
+    this.maxBytes = maxBytes;
+    evict();
+  }
+
+  /**
+   * Returns the total size in bytes of the images in the cache.
+   *
+   * @return the total size in bytes of the images in the cache
+   */
+  public synchronized long getBytes() {
+    return bytes;
+  }
+
+  /**
+   * Returns the number of images in the cache.
+   *
+   * @return the number of images in the cache
+   */
+  public synchronized int getImageCount() {
+    return images.size();
+  }
+
+  /**
+   * Returns the number of icon paints that were served from the cache.
+   *
+   * @return the number of icon paints that were served from the cache
+   */
+  public synchronized int getHitCount() {
+    return hitCount;
+  }
+
+  /**
+   * Returns the number of icon paints that required a new image to be created.
+   *
+   * @return the number of icon paints that required a new image to be created
+   */
+  public synchronized int getMissCount() {
+    return missCount;
+  }
+
+  /**
+   * Returns the number of images that have been evicted from the cache because the maximum size was exceeded.
+   *
+   * @return the number of images that have been evicted from the cache
+   */
+  public synchronized int getEvictionCount() {
+    return evictionCount;
+  }
+
+  /**
+   * Removes all images from the cache and resets the counters.
+   */
+  public synchronized void clear() {
+    removeImages();
+    hitCount = 0;
+    missCount = 0;
+    evictionCount = 0;
+  }
+
+  private synchronized void removeImages() {
+    images.clear();
+    bytes = 0;
+  }
+
+  /**
+   * Paints an icon using a cached image.
+   *
+   * @return true if the icon was painted, false if it must be painted directly
+   */
+  boolean paintIcon(AbstractButtonIcon icon, Object shapeKey, Component c, Graphics g, int x, int y, Color color,
+                    Color background) {
+    if (!(g instanceof Graphics2D))
+      return false;
+
+    Graphics2D g2 = (Graphics2D) g;
+    int scale = getScale(g2.getTransform(), x, y);
+
+    if (scale == 0 ||
+        !(g2.getComposite() instanceof AlphaComposite) ||
+        ((AlphaComposite) g2.getComposite()).getRule() != AlphaComposite.SRC_OVER ||
+        !DEFAULT_STROKE.equals(g2.getStroke()) ||
+        g2.getRenderingHint(RenderingHints.KEY_ANTIALIASING) == RenderingHints.VALUE_ANTIALIAS_ON)
+      return false;
+
+    Image image;
+
+    synchronized (this) {
+      if (maxBytes <= 0)
+        return false;
+
+      probe.set(icon,
+                shapeKey,
+                color,
+                icon.isShadowEnabled() ? background : null,
+                scale,
+                g2.getDeviceConfiguration());
+      image = (Image) images.get(probe);
+
+      if (image != null)
+        hitCount++;
+      else {
+        missCount++;
+        Key key = probe.copy();
+        image = createImage(key, icon, c, color, background);
+        images.put(key, image);
+        bytes += key.getByteSize();
+        evict();
+      }
+
+      probe.clear();
+    }
+
+    int size = icon.getSize() + 2 * MARGIN;
+
+    if (scale == 1)
+      g.drawImage(image, x - MARGIN, y - MARGIN, null);
+    else
+      g.drawImage(image, x - MARGIN, y - MARGIN, size, size, null);
+
+    return true;
+  }
+
+  /**
+   * Returns the device scale of a transform if a point is translated to a whole device pixel and the transform
+   * contains no other scaling, otherwise 0.
+   */
+  private static int getScale(AffineTransform transform, int x, int y) {
+    int type = transform.getType();
+
+    if ((type & ~(AffineTransform.TYPE_TRANSLATION | AffineTransform.TYPE_UNIFORM_SCALE)) != 0)
+      return 0;
+
+    double s = transform.getScaleX();
+
+    if (s < 1 || s != Math.rint(s) || s > 8)
+      return 0;
+
+    double dx = transform.getTranslateX() + x * s;
+    double dy = transform.getTranslateY() + y * s;
+    return dx == Math.rint(dx) && dy == Math.rint(dy) ? (int) s : 0;
+  }
+
+  private void evict() {
+    for (Iterator it = images.entrySet().iterator(); bytes > maxBytes && it.hasNext();) {
+      Map.Entry entry = (Map.Entry) it.next();
+      it.remove();
+      bytes -= ((Key) entry.getKey()).getByteSize();
+      evictionCount++;
+    }
+  }
+
+  private static Image createImage(Key key, AbstractButtonIcon icon, Component c, Color color, Color background) {
+    int size = (key.size + 2 * MARGIN) * key.scale;
+    BufferedImage image = key.configuration == null ?
+                          new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB) :
+                          key.configuration.createCompatibleImage(size, size, Transparency.TRANSLUCENT);
+    Graphics2D g = image.createGraphics();
+
+    try {
+      g.scale(key.scale, key.scale);
+      icon.paintShape(c, g, MARGIN, MARGIN, color, background);
+    }
+    finally {
+      g.dispose();
+    }
+
+    return image;
+  }
+}
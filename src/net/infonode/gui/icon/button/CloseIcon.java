@@ -50,6 +50,10 @@ public class CloseIcon extends AbstractButtonIcon {
     super(size);
   }
 
+  protected Object getShapeKey() {
+    return getClass() == CloseIcon.class ? CloseIcon.class : null;
+  }
+
   protected void paintIcon(Component c, Graphics g, int x1, int y1, int x2, int y2) {
     GraphicsUtil.drawOptimizedLine(g, x1, y1 + 1, x2 - 1, y2);
     GraphicsUtil.drawOptimizedLine(g, x1 + 1, y1 + 1, x2, y2);
@@ -49,6 +49,10 @@ public class DockIcon extends AbstractButtonIcon {
     super(size);
   }
 
+  protected Object getShapeKey() {
+    return getClass() == DockIcon.class ? DockIcon.class : null;
+  }
+
   protected void paintIcon(Component c, final Graphics g, final int x1, final int y1, final int x2, final int y2) {
     int xOffs = (x2 - x1) > 6 ? 1 : 0;
     int yOffs = xOffs;
@@ -39,6 +39,10 @@ public class DropDownIcon extends ArrowIcon {
     super(color, size, direction);
   }
 
+  protected Object getShapeKey() {
+    return getClass() == DropDownIcon.class ? getDirection() : null;
+  }
+
   protected void paintIcon(Component c, Graphics g, int x1, int y1, int x2, int y2) {
     if (getDirection() == Direction.DOWN) {
       int offset = (getIconWidth() / 4);
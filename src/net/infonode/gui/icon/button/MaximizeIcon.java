@@ -50,6 +50,10 @@ public class MaximizeIcon extends AbstractButtonIcon {
     super(size);
   }
 
+  protected Object getShapeKey() {
+    return getClass() == MaximizeIcon.class ? MaximizeIcon.class : null;
+  }
+
   protected void paintIcon(Component c, Graphics g, int x1, int y1, int x2, int y2) {
     GraphicsUtil.drawOptimizedLine(g, x1, y1, x2, y1);
     GraphicsUtil.drawOptimizedLine(g, x1, y1 + 1, x2, y1 + 1);
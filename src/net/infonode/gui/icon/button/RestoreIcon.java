@@ -50,6 +50,10 @@ public class RestoreIcon extends AbstractButtonIcon {
     super(size);
   }
 
+  protected Object getShapeKey() {
+    return getClass() == RestoreIcon.class ? RestoreIcon.class : null;
+  }
+
   protected void paintIcon(Component c, Graphics g, int x1, int y1, int x2, int y2) {
     int boxHeight = (2 * (y2 - y1 + 1)) / 3 - 1;
     int boxWidth = (5 * (x2 - x1 + 1)) / 6 - 1;
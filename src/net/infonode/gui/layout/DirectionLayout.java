@@ -39,6 +39,10 @@ public class DirectionLayout implements LayoutManager2 {
 
   private ArrayList layoutOrderList;
 
+  // Component -> Dimension[] {preferred, minimum, maximum}. The sizes are only reused while the component is valid and
+  // are cleared when the container is invalidated.
+  private final HashMap sizeCache = new HashMap();
+
   public DirectionLayout() {
     this(Direction.RIGHT);
   }
@@ -117,8 +121,44 @@ public class DirectionLayout implements LayoutManager2 {
     return (int) (isVertical() ? dim.getWidth() : dim.getHeight());
   }
 
+  // Can be overridden to provide the size of a component without asking the component
+  protected Dimension getComponentPreferredSize(Component component) {
+    return getCachedSize(component, 0);
+  }
+
+  protected Dimension getComponentMinimumSize(Component component) {
+    return getCachedSize(component, 1);
+  }
+
+  protected Dimension getComponentMaximumSize(Component component) {
+    return getCachedSize(component, 2);
+  }
+
+  private Dimension getCachedSize(Component component, int type) {
+    if (!component.isValid())
+      return getSize(component, type);
+
+    Dimension[] sizes = (Dimension[]) sizeCache.get(component);
+
+    if (sizes == null) {
+      sizes = new Dimension[3];
+      sizeCache.put(component, sizes);
+    }
+
+    if (sizes[type] == null)
+      sizes[type] = getSize(component, type);
+
+    return sizes[type];
+  }
+
+  private static Dimension getSize(Component component, int type) {
+    return type == 0 ? component.getPreferredSize() :
+           type == 1 ? component.getMinimumSize() :
+           component.getMaximumSize();
+  }
+
   private void setSize(Component component, int size, int otherSize) {
-    int maxOtherSize = getOtherSize(component.getMaximumSize());
+    int maxOtherSize = getOtherSize(getComponentMaximumSize(component));
     component.setSize(createSize(size, Math.min(maxOtherSize, otherSize)));
   }
 
@@ -141,6 +181,14 @@ public class DirectionLayout implements LayoutManager2 {
       totalSpacing += getSpacing(components[i], i == components.length - 1);
 
     boolean[] discarded = new boolean[components.length];
+    int[] prefSizes = new int[components.length];
+    int[] minSizes = new int[components.length];
+
+    for (int i = 0; i < components.length; i++) {
+      prefSizes[i] = getSize(getComponentPreferredSize(components[i]));
+      minSizes[i] = getSize(getComponentMinimumSize(components[i]));
+    }
+
     Dimension parentInteriorSize = LayoutUtil.getInteriorSize(parent);
     int componentsTotalSize = getSize(parentInteriorSize) - totalSpacing;
     int maxComponentSize = componentsTotalSize / components.length;
@@ -156,7 +204,7 @@ public class DirectionLayout implements LayoutManager2 {
 
       for (int i = 0; i < components.length; i++) {
         if (!discarded[i]) {
-          int prefSize = getSize(components[i].getPreferredSize());
+          int prefSize = prefSizes[i];
 
           if (prefSize <= maxComponentSize) {
             setSize(components[i], prefSize, otherSize);
@@ -180,7 +228,7 @@ public class DirectionLayout implements LayoutManager2 {
         // Now fit all that have a larger minimum componentsTotalSize
         for (int i = 0; i < components.length; i++) {
           if (!discarded[i]) {
-            int minSize = getSize(components[i].getMinimumSize());
+            int minSize = minSizes[i];
 
             if (minSize >= maxComponentSize) {
               setSize(components[i], minSize, otherSize);
@@ -211,7 +259,7 @@ public class DirectionLayout implements LayoutManager2 {
       pos += getBeforeSpacing(getInsets(components[i]));
 
       if (!discarded[i]) {
-        int componentSize = Math.max(getSize(components[i].getMinimumSize()), componentsTotalSize / count);
+        int componentSize = Math.max(minSizes[i], componentsTotalSize / count);
         setSize(components[i], componentSize, otherSize);
         count--;
         componentsTotalSize -= componentSize;
@@ -280,8 +328,9 @@ public class DirectionLayout implements LayoutManager2 {
     int maxHeight = 0;
 
     for (int i = 0; i < c.length; i++) {
-      size += getSize(c[i].getMinimumSize()) + getSpacing(c[i], i == c.length - 1);
-      maxHeight = Math.max(getOtherSize(c[i].getMinimumSize()), maxHeight);
+      Dimension min = getComponentMinimumSize(c[i]);
+      size += getSize(min) + getSpacing(c[i], i == c.length - 1);
+      maxHeight = Math.max(getOtherSize(min), maxHeight);
     }
 
     Dimension d = getSize(isVertical() ? new Dimension(maxHeight, size) : new Dimension(size, maxHeight), parent);
@@ -295,10 +344,12 @@ public class DirectionLayout implements LayoutManager2 {
     int maxHeight = 0;
 
     for (int i = 0; i < c.length; i++) {
+      Dimension pref = getComponentPreferredSize(c[i]);
+
       if (!compressing)
-        size += getSize(c[i].getPreferredSize()) + getSpacing(c[i], i == c.length - 1);
+        size += getSize(pref) + getSpacing(c[i], i == c.length - 1);
 
-      maxHeight = Math.max(getOtherSize(c[i].getPreferredSize()), maxHeight);
+      maxHeight = Math.max(getOtherSize(pref), maxHeight);
     }
 
     Dimension d = getSize(isVertical() ? new Dimension(maxHeight, size) : new Dimension(size, maxHeight), parent);
@@ -307,6 +358,8 @@ public class DirectionLayout implements LayoutManager2 {
   }
 
   public void removeLayoutComponent(Component comp) {
+    sizeCache.remove(comp);
+
     if (componentInsets != null) {
       componentInsets.remove(comp);
 
@@ -328,6 +381,7 @@ public class DirectionLayout implements LayoutManager2 {
   }
 
   public void invalidateLayout(Container target) {
+    sizeCache.clear();
   }
 
   public Dimension maximumLayoutSize(Container parent) {
@@ -336,8 +390,8 @@ public class DirectionLayout implements LayoutManager2 {
     int maxHeight = Integer.MAX_VALUE;
 
     for (int i = 0; i < c.length; i++) {
-      size += getSize(c[i].getMaximumSize()) + getSpacing(c[i], i == c.length - 1);
-//      maxHeight = Math.min(getOtherSize(c[i].getMaximumSize()), maxHeight);
+      size += getSize(getComponentMaximumSize(c[i])) + getSpacing(c[i], i == c.length - 1);
+//      maxHeight = Math.min(getOtherSize(getComponentMaximumSize(c[i])), maxHeight);
     }
 
     Dimension d = getSize(isVertical() ? new Dimension(maxHeight, size) : new Dimension(size, maxHeight), parent);
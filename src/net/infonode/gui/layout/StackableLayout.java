@@ -32,6 +32,9 @@ public class StackableLayout implements LayoutManager2 {
   private Component component;
   private boolean autoShowFirstComponent = true;
   private boolean useSelectedComponentSize;
+  private Dimension preferredSize;
+  private Dimension minimumSize;
+  private Dimension maximumSize;
 
   public StackableLayout(Container container) {
     this.container = container;
@@ -52,6 +55,7 @@ public class StackableLayout implements LayoutManager2 {
   public void setUseSelectedComponentSize(boolean useSelectedComponentSize) {
     if (this.useSelectedComponentSize != useSelectedComponentSize) {
       this.useSelectedComponentSize = useSelectedComponentSize;
+      preferredSize = null;
       ComponentUtil.validate(container);
       /*if (container instanceof JComponent)
         ((JComponent)container).revalidate();
@@ -61,10 +65,29 @@ public class StackableLayout implements LayoutManager2 {
   }
 
   public Dimension maximumLayoutSize(Container target) {
-    return LayoutUtil.add(LayoutUtil.getMinMaximumSize(target.getComponents()), target.getInsets());
+    if (maximumSize == null || !isValid(target))
+      maximumSize = LayoutUtil.add(LayoutUtil.getMinMaximumSize(target.getComponents()), target.getInsets());
+
+    return new Dimension(maximumSize);
   }
 
   public void invalidateLayout(Container target) {
+    clearSizes();
+  }
+
+  // The cached sizes are only used while all components are valid
+  private static boolean isValid(Container parent) {
+    for (int i = 0; i < parent.getComponentCount(); i++)
+      if (!parent.getComponent(i).isValid())
+        return false;
+
+    return true;
+  }
+
+  private void clearSizes() {
+    preferredSize = null;
+    minimumSize = null;
+    maximumSize = null;
   }
 
   public float getLayoutAlignmentY(Container target) {
@@ -76,6 +99,7 @@ public class StackableLayout implements LayoutManager2 {
   }
 
   public void addLayoutComponent(Component comp, Object constraints) {
+    clearSizes();
     comp.setVisible(autoShowFirstComponent && comp.getParent().getComponentCount() == 1);
 
     if (comp.isVisible()) {
@@ -88,6 +112,8 @@ public class StackableLayout implements LayoutManager2 {
   }
 
   public void removeLayoutComponent(Component comp) {
+    clearSizes();
+
     if (comp == component)
       component = null;
 
@@ -95,13 +121,19 @@ public class StackableLayout implements LayoutManager2 {
   }
 
   public Dimension preferredLayoutSize(Container parent) {
-    return LayoutUtil.add(useSelectedComponentSize ?
-                          component == null ? new Dimension(0, 0) : component.getPreferredSize() :
-                          LayoutUtil.getMaxPreferredSize(parent.getComponents()), parent.getInsets());
+    if (preferredSize == null || !isValid(parent))
+      preferredSize = LayoutUtil.add(useSelectedComponentSize ?
+                                     component == null ? new Dimension(0, 0) : component.getPreferredSize() :
+                                     LayoutUtil.getMaxPreferredSize(parent.getComponents()), parent.getInsets());
+
+    return new Dimension(preferredSize);
   }
 
   public Dimension minimumLayoutSize(Container parent) {
-    return LayoutUtil.add(LayoutUtil.getMaxMinimumSize(parent.getComponents()), parent.getInsets());
+    if (minimumSize == null || !isValid(parent))
+      minimumSize = LayoutUtil.add(LayoutUtil.getMaxMinimumSize(parent.getComponents()), parent.getInsets());
+
+    return new Dimension(minimumSize);
   }
 
   public void layoutContainer(Container parent) {
@@ -126,6 +158,9 @@ public class StackableLayout implements LayoutManager2 {
 
     component = c;
 
+    if (useSelectedComponentSize)
+      preferredSize = null;
+
     boolean hasFocus = oldComponent != null &&
                        LayoutUtil.isDescendingFrom(
                            KeyboardFocusManager.getCurrentKeyboardFocusManager().getFocusOwner(),
@@ -32,8 +32,10 @@ import net.infonode.gui.colorprovider.ColorProvider;
 import net.infonode.gui.colorprovider.FixedColorProvider;
 import net.infonode.gui.shaped.ShapedUtil;
 import net.infonode.gui.shaped.panel.ShapedPanel;
+import net.infonode.util.Direction;
 
 import java.awt.*;
+import java.util.WeakHashMap;
 
 /**
  * @author johan
@@ -47,6 +49,45 @@ abstract public class AbstractPolygonBorder extends AbstractShapedBorder {
   private ColorProvider middleColor;
   private ColorProvider shadowColor;
 
+  private static class CachedPolygon {
+    private final int x;
+    private final int y;
+    private final int width;
+    private final int height;
+    private final Direction direction;
+    private final boolean horizontalFlip;
+    private final boolean verticalFlip;
+    private final int state;
+    private final Polygon polygon;
+
+    CachedPolygon(int x, int y, int width, int height, Direction direction, boolean horizontalFlip,
+                  boolean verticalFlip, int state, Polygon polygon) {
+      this.x = x;
+      this.y = y;
+      this.width = width;
+      this.height = height;
+      this.direction = direction;
+      this.horizontalFlip = horizontalFlip;
+      this.verticalFlip = verticalFlip;
+      this.state = state;
+      this.polygon = polygon;
+    }
+
+    boolean matches(int x, int y, int width, int height, Direction direction, boolean horizontalFlip,
+                    boolean verticalFlip, int state) {
+      return this.x == x && this.y == y && this.width == width && this.height == height &&
+             this.direction == direction && this.horizontalFlip == horizontalFlip &&
+             this.verticalFlip == verticalFlip && this.state == state;
+    }
+  }
+
+  /**
+   * The last polygon created for each component if {@link #isPolygonCacheable()} returns true. The border is
+   * immutable, so the polygon only depends on the component size, direction, flips and the state returned by
+   * {@link #getPolygonState(Component)}.
+   */
+  private transient WeakHashMap polygonCache;
+
   protected AbstractPolygonBorder(ColorProvider lineColor) {
     this(lineColor, FixedColorProvider.WHITE);
   }
@@ -74,7 +115,7 @@ abstract public class AbstractPolygonBorder extends AbstractShapedBorder {
 
     //System.out.println("Polygon: width=" + w + " height=" + h);
 
-    return polygon;
+    return isPolygonCacheable() ? new Polygon(polygon.xpoints, polygon.ypoints, polygon.npoints) : polygon;
   }
 
   public boolean isBorderOpaque() {
@@ -205,6 +246,32 @@ abstract public class AbstractPolygonBorder extends AbstractShapedBorder {
     return deltaY - deltaX > 0 ? (deltaX + deltaY > 0 ? 0 : -1) : (deltaX + deltaY > 0 ? 1 : 0); //-deltaY > deltaX ? 1 : 0;
   }
 
+  /**
+   * Returns true if the polygon created by {@link #createPolygon(Component, int, int)} is cached for each component and
+   * only recreated when the state returned by {@link #getPolygonState(Component)}, the size, the direction or the flips
+   * change. The default implementation returns false. A subclass opts in to the caching by overriding this method, and
+   * {@link #getPolygonState(Component)} if the polygon depends on other component state.
+   *
+   * @return true if the polygons created by this border are cached
+   * @since IDW 1.7.0
+   */
+  protected boolean isPolygonCacheable() {
+    return false;
+  }
+
+  /**
+   * Returns a value identifying the state of the component, other than the size, direction and flips, that the polygon
+   * created by {@link #createPolygon(Component, int, int)} depends on. Only used if {@link #isPolygonCacheable()}
+   * returns true.
+   *
+   * @param c the component
+   * @return a value identifying the component state
+   * @since IDW 1.7.0
+   */
+  protected int getPolygonState(Component c) {
+    return 0;
+  }
+
   protected void setPoint(Polygon polygon, int x, int y) {
     polygon.xpoints[polygon.npoints] = x;
     polygon.ypoints[polygon.npoints] = y;
@@ -212,6 +279,29 @@ abstract public class AbstractPolygonBorder extends AbstractShapedBorder {
   }
 
   private Polygon getPolygon(Component c, int x, int y, int width, int height) {
+    Direction direction = ShapedUtil.getDirection(c);
+    boolean horizontalFlip = c instanceof ShapedPanel && ((ShapedPanel) c).isHorizontalFlip();
+    boolean verticalFlip = c instanceof ShapedPanel && ((ShapedPanel) c).isVerticalFlip();
+    if (!isPolygonCacheable())
+      return createPolygon(c, x, y, width, height);
+
+    int state = getPolygonState(c);
+
+    if (polygonCache == null)
+      polygonCache = new WeakHashMap();
+
+    CachedPolygon cached = (CachedPolygon) polygonCache.get(c);
+
+    if (cached != null && cached.matches(x, y, width, height, direction, horizontalFlip, verticalFlip, state))
+      return cached.polygon;
+
+    Polygon polygon = createPolygon(c, x, y, width, height);
+    polygonCache.put(c,
+                     new CachedPolygon(x, y, width, height, direction, horizontalFlip, verticalFlip, state, polygon));
+    return polygon;
+  }
+
+  private Polygon createPolygon(Component c, int x, int y, int width, int height) {
     Polygon polygon = createPolygon(c, width, height);
     flipPolygon(c, polygon, width, height);
     rotatePolygon(c, polygon, width, height);
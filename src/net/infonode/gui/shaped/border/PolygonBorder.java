@@ -84,4 +84,8 @@ public class PolygonBorder extends AbstractPolygonBorder {
     return new Polygon(xc, yc, xc.length);
   }
 
+  protected boolean isPolygonCacheable() {
+    return getClass() == PolygonBorder.class;
+  }
+
 }
@@ -101,6 +101,10 @@ public class RoundedCornerBorder extends PolygonBorder {
     return insets;
   }
 
+  protected boolean isPolygonCacheable() {
+    return getClass() == RoundedCornerBorder.class;
+  }
+
   private static int[] createCoordinates(int cType1,
                                          int cType2,
                                          int cType3,
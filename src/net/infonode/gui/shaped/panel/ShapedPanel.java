@@ -29,6 +29,8 @@ import net.infonode.gui.componentpainter.ComponentPainter;
 import net.infonode.gui.panel.BaseContainer;
 import net.infonode.gui.shaped.border.ShapedBorder;
 import net.infonode.util.Direction;
+import net.infonode.util.Metrics;
+import net.infonode.util.MetricsRecorder;
 
 import javax.swing.border.Border;
 import javax.swing.border.CompoundBorder;
@@ -189,6 +191,8 @@ public class ShapedPanel extends BaseContainer implements BackgroundPainter {
     super.paintComponent(g);
 
     if (painter != null) {
+      MetricsRecorder metrics = Metrics.getRecorder();
+      long start = metrics == null ? 0 : System.nanoTime();
       Shape shape = getShape();
 
       if (shape != null) {
@@ -203,6 +207,9 @@ public class ShapedPanel extends BaseContainer implements BackgroundPainter {
       }
       else
         painter.paint(this, g, 0, 0, getWidth(), getHeight(), direction, horizontalFlip, verticalFlip);
+
+      if (metrics != null)
+        metrics.recordTime("paint." + painter.getClass().getName(), System.nanoTime() - start);
     }
   }
 
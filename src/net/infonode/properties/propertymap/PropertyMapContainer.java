@@ -26,6 +26,9 @@ package net.infonode.properties.propertymap;
 /**
  * Base class for property classes that use a {@link PropertyMap}.
  *
+ * Property classes don't have any state except the property map, so the property objects returned for child maps
+ * are created once and then reused.
+ *
  * @author $Author: jesper $
  * @version $Revision: 1.5 $
  */
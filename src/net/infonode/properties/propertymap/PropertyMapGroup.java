@@ -23,8 +23,12 @@
 // $Id: PropertyMapGroup.java,v 1.3 2004/09/22 14:32:50 jesper Exp $
 package net.infonode.properties.propertymap;
 
+import net.infonode.properties.base.Property;
 import net.infonode.properties.base.PropertyGroup;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+
 /**
  * A property group containing properties for which values can be set in a property map.
  * The property map group has a property map containing default values for the properties in this group.
@@ -35,6 +39,7 @@ import net.infonode.properties.base.PropertyGroup;
  */
 public class PropertyMapGroup extends PropertyGroup {
   private PropertyMapImpl defaultMap;
+  private HashMap propertySlots;
 
   /**
    * Constructor.
@@ -68,4 +73,61 @@ public class PropertyMapGroup extends PropertyGroup {
 
     return defaultMap;
   }
+
+  boolean isDefaultMap(PropertyMapImpl map) {
+    return map == defaultMap;
+  }
+
+  /**
+   * Returns the lookup slot of a property in this group. The slots are dense integers assigned to all properties in
+   * this group and it's super groups. They are used by property maps to cache resolved values and to store child maps
+   * in arrays. The slot of a property never changes once it has been assigned.
+   *
+   * @param property the property
+   * @return the slot of the property, -1 if the property is not part of this group
+   */
+  int getPropertySlot(Property property) {
+    if (propertySlots != null) {
+      Integer slot = (Integer) propertySlots.get(property);
+
+      if (slot != null)
+        return slot.intValue();
+    }
+
+    // Properties might have been added to this group or a super group since the slots were assigned
+    if (!hasProperty(property))
+      return -1;
+
+    assignPropertySlots();
+    Integer slot = (Integer) propertySlots.get(property);
+    return slot == null ? -1 : slot.intValue();
+  }
+
+  /**
+   * Returns the number of lookup slots currently assigned in this group.
+   *
+   * @return the number of lookup slots
+   */
+  int getPropertySlotCount() {
+    return propertySlots == null ? 0 : propertySlots.size();
+  }
+
+  private void assignPropertySlots() {
+    ArrayList groups = new ArrayList(4);
+
+    for (PropertyGroup group = this; group != null; group = group.getSuperGroup())
+      groups.add(0, group);
+
+    HashMap slots = propertySlots == null ? new HashMap() : new HashMap(propertySlots);
+
+    for (int i = 0; i < groups.size(); i++) {
+      PropertyGroup group = (PropertyGroup) groups.get(i);
+
+      for (int j = 0; j < group.getPropertyCount(); j++)
+        if (!slots.containsKey(group.getProperty(j)))
+          slots.put(group.getProperty(j), Integer.valueOf(slots.size()));
+    }
+
+    propertySlots = slots;
+  }
 }
@@ -41,7 +41,6 @@ import net.infonode.util.collection.map.base.ConstMap;
 import net.infonode.util.collection.map.base.ConstMapIterator;
 import net.infonode.util.collection.map.base.MapIterator;
 import net.infonode.util.collection.notifymap.AbstractConstChangeNotifyMap;
-import net.infonode.util.collection.notifymap.ChangeNotifyMapWrapper;
 import net.infonode.util.collection.notifymap.ConstChangeNotifyMap;
 import net.infonode.util.collection.notifymap.ConstChangeNotifyVectorMap;
 import net.infonode.util.signal.Signal;
@@ -59,12 +58,18 @@ import java.util.*;
 public class PropertyMapImpl implements PropertyMap {
   private static final int SERIALIZE_VERSION = 1;
 
+  private static final Object NULL_VALUE = new Object();
+
   private class PropertyObjectMap extends AbstractConstChangeNotifyMap implements SignalListener {
     private boolean listenerActive;
 
     PropertyObjectMap() {
     }
 
+    PropertyMapImpl getPropertyMap() {
+      return PropertyMapImpl.this;
+    }
+
     protected void listenerAdded() {
       if (!listenerActive) {
         listenerActive = true;
@@ -184,25 +189,32 @@ public class PropertyMapImpl implements PropertyMap {
       for (int i = 0; i < toBeRemoved.size(); i++) {
         values.remove(toBeRemoved.get(i));
       }
+
+      if (!toBeRemoved.isEmpty())
+        lookupChanged();
     }
 
     public Object get(Object key) {
-      return vectorMap.get(key);
+      Object value = values.get(key);
+      return value == null ? superMap.get(key) : value;
     }
 
     public boolean containsKey(Object key) {
-      return vectorMap.containsKey(key);
+      return values.containsKey(key) || superMap.containsKey(key);
     }
 
     public boolean containsValue(Object value) {
-      return vectorMap.containsValue(value);
+      return values.containsValue(value) || superMap.containsValue(value);
     }
 
     public boolean isEmpty() {
-      return vectorMap.isEmpty();
+      return values.isEmpty() && superMap.isEmpty();
     }
 
     public ConstMapIterator constIterator() {
+      ConstVectorMap vectorMap = new ConstVectorMap();
+      vectorMap.addMap(values);
+      vectorMap.addMap(superMap);
       return vectorMap.constIterator();
     }
 
@@ -215,13 +227,14 @@ public class PropertyMapImpl implements PropertyMap {
   private PropertyMapImpl parent;
   private PropertyMapProperty property;
 
-  private ChangeNotifyMapWrapper values = new ChangeNotifyMapWrapper(new MapAdapter());
+  private MapAdapter values = new MapAdapter();
   private ConstChangeNotifyVectorMap superMap = new ConstChangeNotifyVectorMap();
-  private ConstVectorMap vectorMap = new ConstVectorMap();
   private PropertyObjectMap map = new PropertyObjectMap();
 
-  private ArrayList superMaps = new ArrayList(1);
-  private MapAdapter childMaps = new MapAdapter();
+  /**
+   * The child maps indexed by property slot, created when they are first accessed.
+   */
+  private PropertyMapImpl[] childMaps;
 
   private HashMap propertyChangeListeners;
   private ArrayList listeners;
@@ -229,6 +242,16 @@ public class PropertyMapImpl implements PropertyMap {
 
   private SignalListener mapListener;
 
+  private volatile Object[] lookupCache;
+  private int lookupVersion;
+
+  /**
+   * Emitted when the values of this map or the maps it inherits from have changed. The maps inheriting from this map
+   * listen weakly to it to discard their lookup caches.
+   */
+  private Signal lookupSignal;
+  private SignalListener lookupListener;
+
   public PropertyMapImpl(PropertyMapGroup propertyGroup) {
     this(propertyGroup, null);
   }
@@ -252,19 +275,10 @@ public class PropertyMapImpl implements PropertyMap {
     this.parent = parent;
     this.property = property;
     this.propertyGroup = propertyGroup;
+  }
 
-    Property[] properties = this.propertyGroup.getProperties();
-
-    for (int i = 0; i < properties.length; i++) {
-      if (properties[i] instanceof PropertyMapProperty) {
-        PropertyMapProperty p = (PropertyMapProperty) properties[i];
-        PropertyMapImpl propertyObject = new PropertyMapImpl(this, p);
-        childMaps.put(p, propertyObject);
-      }
-    }
-
-    vectorMap.addMap(values);
-    vectorMap.addMap(superMap);
+  boolean hasTreeListeners() {
+    return treeListeners != null;
   }
 
   private boolean hasTreeListener() {
@@ -280,8 +294,10 @@ public class PropertyMapImpl implements PropertyMap {
   private void updateListenerRecursive() {
     updateListener();
 
-    for (ConstMapIterator iterator = childMaps.constIterator(); iterator.atEntry(); iterator.next())
-      ((PropertyMapImpl) iterator.getValue()).updateListenerRecursive();
+    if (childMaps != null)
+      for (int i = 0; i < childMaps.length; i++)
+        if (childMaps[i] != null)
+          childMaps[i].updateListenerRecursive();
   }
 
   private void updateListener() {
@@ -318,7 +334,15 @@ public class PropertyMapImpl implements PropertyMap {
   }
 
   public PropertyMap getSuperMap() {
-    return superMaps.size() == 0 ? null : (PropertyMap) superMaps.get(0);
+    return superMap.getMapCount() == 0 ? null : getSuperMapImpl(0);
+  }
+
+  private PropertyMapImpl getSuperMapImpl(int index) {
+    return ((PropertyObjectMap) superMap.getMap(index)).getPropertyMap();
+  }
+
+  private int getSuperMapIndex(PropertyMap map) {
+    return map instanceof PropertyMapImpl ? superMap.getMapIndex(((PropertyMapImpl) map).map) : -1;
   }
 
   public Object removeValue(Property property) throws InvalidPropertyException {
@@ -330,6 +354,7 @@ public class PropertyMapImpl implements PropertyMap {
       return null;
 
     values.remove(property);
+    lookupChanged();
 
     PropertyMapManager.getInstance().beginBatch();
 
@@ -373,7 +398,7 @@ public class PropertyMapImpl implements PropertyMap {
   }
 
   public int getSuperMapCount() {
-    return superMaps.size();
+    return superMap.getMapCount();
   }
 
   public void addSuperMap(PropertyMap superMap) {
@@ -393,8 +418,8 @@ public class PropertyMapImpl implements PropertyMap {
   }
 
   public PropertyMap removeSuperMap() {
-    if (superMaps.size() > (parent == null ? 0 : parent.superMaps.size())) {
-      PropertyMapImpl object = (PropertyMapImpl) superMaps.get(0);
+    if (getSuperMapCount() > (parent == null ? 0 : parent.getSuperMapCount())) {
+      PropertyMapImpl object = getSuperMapImpl(0);
       removeSuperMap(0);
       return object;
     }
@@ -403,8 +428,8 @@ public class PropertyMapImpl implements PropertyMap {
   }
 
   public boolean removeSuperMap(PropertyMap superMap) {
-    if (superMaps.size() > (parent == null ? 0 : parent.superMaps.size())) {
-      int index = superMaps.indexOf(superMap);
+    if (getSuperMapCount() > (parent == null ? 0 : parent.getSuperMapCount())) {
+      int index = getSuperMapIndex(superMap);
 
       if (index == -1)
         return false;
@@ -418,8 +443,8 @@ public class PropertyMapImpl implements PropertyMap {
   }
 
   public boolean replaceSuperMap(PropertyMap oldSuperMap, PropertyMap newSuperMap) {
-    if (oldSuperMap != newSuperMap && superMaps.size() > (parent == null ? 0 : parent.superMaps.size())) {
-      int index = superMaps.indexOf(oldSuperMap);
+    if (oldSuperMap != newSuperMap && getSuperMapCount() > (parent == null ? 0 : parent.getSuperMapCount())) {
+      int index = getSuperMapIndex(oldSuperMap);
 
       if (index == -1)
         return false;
@@ -442,19 +467,25 @@ public class PropertyMapImpl implements PropertyMap {
   }
 
   private void removeParentSuperMap(int parentIndex) {
-    removeSuperMap(superMaps.size() - parent.superMaps.size() - 1 + parentIndex);
+    removeSuperMap(getSuperMapCount() - parent.getSuperMapCount() - 1 + parentIndex);
   }
 
   private void removeSuperMap(int index) {
     PropertyMapManager.getInstance().beginBatch();
 
     try {
+      PropertyMapImpl removedMap = getSuperMapImpl(index);
       superMap.removeMap(index);
-      superMaps.remove(index);
 
-      for (ConstMapIterator iterator = childMaps.constIterator(); iterator.atEntry(); iterator.next()) {
-        ((PropertyMapImpl) iterator.getValue()).removeParentSuperMap(index);
-      }
+      if (lookupListener != null)
+        removedMap.removeLookupListener(lookupListener);
+
+      lookupChanged();
+
+      if (childMaps != null)
+        for (int i = 0; i < childMaps.length; i++)
+          if (childMaps[i] != null)
+            childMaps[i].removeParentSuperMap(index);
     }
     finally {
       PropertyMapManager.getInstance().endBatch();
@@ -466,7 +497,7 @@ public class PropertyMapImpl implements PropertyMap {
   }
 
   private void addParentSuperMap(PropertyMapImpl propertyObjectImpl, int parentIndex) {
-    addSuperMap(superMaps.size() - parent.superMaps.size() + 1 + parentIndex, propertyObjectImpl);
+    addSuperMap(getSuperMapCount() - parent.getSuperMapCount() + 1 + parentIndex, propertyObjectImpl);
   }
 
   private void addSuperMap(int index, PropertyMapImpl propertyObjectImpl) {
@@ -474,12 +505,16 @@ public class PropertyMapImpl implements PropertyMap {
 
     try {
       superMap.addMap(index, propertyObjectImpl.map);
-      superMaps.add(index, propertyObjectImpl);
 
-      for (ConstMapIterator iterator = childMaps.constIterator(); iterator.atEntry(); iterator.next()) {
-        ((PropertyMapImpl) iterator.getValue()).addParentSuperMap(
-            propertyObjectImpl.getChildMapImpl((PropertyMapProperty) iterator.getKey()), index);
-      }
+      if (lookupListener != null)
+        propertyObjectImpl.addLookupListener(lookupListener);
+
+      lookupChanged();
+
+      if (childMaps != null)
+        for (int i = 0; i < childMaps.length; i++)
+          if (childMaps[i] != null)
+            childMaps[i].addParentSuperMap(propertyObjectImpl.getChildMapImpl(childMaps[i].property), index);
     }
     finally {
       PropertyMapManager.getInstance().endBatch();
@@ -583,7 +618,61 @@ public class PropertyMapImpl implements PropertyMap {
 
   public PropertyMapImpl getChildMapImpl(PropertyMapProperty property) {
     checkProperty(property);
-    return (PropertyMapImpl) childMaps.get(property);
+
+    // Only properties declared in this group have child maps
+    if (property.getGroup() != propertyGroup)
+      return null;
+
+    int slot = propertyGroup.getPropertySlot(property);
+
+    if (childMaps == null || slot >= childMaps.length) {
+      PropertyMapImpl[] maps = new PropertyMapImpl[propertyGroup.getPropertySlotCount()];
+
+      if (childMaps != null)
+        System.arraycopy(childMaps, 0, maps, 0, childMaps.length);
+
+      childMaps = maps;
+    }
+
+    PropertyMapImpl childMap = childMaps[slot];
+
+    if (childMap == null) {
+      childMap = new PropertyMapImpl(this, property);
+      childMaps[slot] = childMap;
+      childMap.addParentSuperMaps();
+    }
+
+    return childMap;
+  }
+
+  private PropertyMapImpl getExistingChildMapImpl(PropertyMapProperty property) {
+    if (childMaps == null || property.getGroup() != propertyGroup)
+      return null;
+
+    int slot = propertyGroup.getPropertySlot(property);
+    return slot < childMaps.length ? childMaps[slot] : null;
+  }
+
+  private boolean hasChildMap(PropertyMapProperty property) {
+    if (getExistingChildMapImpl(property) != null)
+      return true;
+
+    for (int i = 0; i < getSuperMapCount(); i++)
+      if (getSuperMapImpl(i).hasChildMap(property))
+        return true;
+
+    return false;
+  }
+
+  /**
+   * Links a newly created child map to the corresponding child maps of the super maps of its parent. This doesn't
+   * change any property values so no change notifications are fired.
+   */
+  private void addParentSuperMaps() {
+    for (int i = 0; i < parent.getSuperMapCount(); i++)
+      superMap.addMap(parent.getSuperMapImpl(i).getChildMapImpl(property).map);
+
+    updateListener();
   }
 
   private PropertyValue getParentDefaultValue(PropertyPath path) {
@@ -592,10 +681,113 @@ public class PropertyMapImpl implements PropertyMap {
   }
 
   public PropertyValue getValueWithDefault(Property property) {
+    if (PropertyMapManager.getInstance().isCompiledLookup()) {
+      int slot = propertyGroup.getPropertySlot(property);
+
+      if (slot != -1) {
+        Object[] cache = getLookupCache(slot);
+        Object value = cache[slot * 2 + 1];
+
+        if (value == null) {
+          value = resolveValueWithDefault(property);
+          cache[slot * 2 + 1] = value == null ? NULL_VALUE : value;
+        }
+
+        return value == NULL_VALUE ? null : (PropertyValue) value;
+      }
+    }
+
+    return resolveValueWithDefault(property);
+  }
+
+  private PropertyValue resolveValueWithDefault(Property property) {
     PropertyValue value = getValue(property);
     return value == null ? getParentDefaultValue(new PropertyPath(property)) : value;
   }
 
+  /**
+   * Returns the lookup cache, creating a new cache if it has been discarded or if it's out of date. The value of a slot
+   * is stored at index slot * 2 and the value with default at index slot * 2 + 1.
+   *
+   * @param slot the slot of the property that is looked up
+   * @return the lookup cache
+   */
+  private Object[] getLookupCache(int slot) {
+    int version = PropertyMapManager.getInstance().getLookupVersion();
+    Object[] cache = lookupCache;
+
+    if (cache == null || lookupVersion != version || slot * 2 >= cache.length) {
+      initLookupListener();
+      cache = new Object[propertyGroup.getPropertySlotCount() * 2];
+      lookupCache = cache;
+      lookupVersion = version;
+    }
+
+    return cache;
+  }
+
+  /**
+   * Makes this map discard its lookup cache when a map it inherits from is changed.
+   */
+  private void initLookupListener() {
+    if (lookupListener == null) {
+      lookupListener = new SignalListener() {
+        public void signalEmitted(Signal signal, Object object) {
+          lookupChanged();
+        }
+      };
+
+      for (int i = 0; i < getSuperMapCount(); i++)
+        getSuperMapImpl(i).addLookupListener(lookupListener);
+    }
+  }
+
+  /**
+   * Adds a listener that is notified when the lookup cache of this map is discarded. The listener is added weakly, so
+   * it doesn't keep the inheriting map alive.
+   *
+   * @param listener the listener
+   */
+  private void addLookupListener(SignalListener listener) {
+    if (lookupSignal == null)
+      lookupSignal = new Signal();
+
+    lookupSignal.getHook().addWeak(listener);
+
+    // This map must in turn be notified of changes in the maps it inherits from
+    initLookupListener();
+  }
+
+  private void removeLookupListener(SignalListener listener) {
+    if (lookupSignal != null)
+      lookupSignal.getHook().remove(listener);
+  }
+
+  /**
+   * Discards the lookup cache of this map and of the maps that inherit from it. The default values of all maps can
+   * depend on a default map, so a change in a default map discards all lookup caches. A map without a lookup cache or
+   * lookup listeners has not been read through a lookup, so no cache can contain values from it.
+   */
+  private void lookupChanged() {
+    boolean looked = lookupCache != null || lookupListener != null || lookupSignal != null;
+    lookupCache = null;
+
+    if (looked && isDefaultMap())
+      PropertyMapManager.getInstance().lookupChanged();
+
+    if (lookupSignal != null)
+      lookupSignal.emit(null);
+  }
+
+  private boolean isDefaultMap() {
+    PropertyMapImpl root = this;
+
+    while (root.parent != null)
+      root = root.parent;
+
+    return root.propertyGroup.isDefaultMap(root);
+  }
+
   private PropertyValue getValue(PropertyPath propertyPath) {
     return propertyPath.getTail() == null ?
            getValue(propertyPath.getProperty()) :
@@ -603,12 +795,29 @@ public class PropertyMapImpl implements PropertyMap {
   }
 
   public PropertyValue getValue(Property property) {
+    if (PropertyMapManager.getInstance().isCompiledLookup()) {
+      int slot = propertyGroup.getPropertySlot(property);
+
+      if (slot != -1) {
+        Object[] cache = getLookupCache(slot);
+        Object value = cache[slot * 2];
+
+        if (value == null) {
+          value = map.get(property);
+          cache[slot * 2] = value == null ? NULL_VALUE : value;
+        }
+
+        return value == NULL_VALUE ? null : (PropertyValue) value;
+      }
+    }
+
     checkProperty(property);
     return (PropertyValue) map.get(property);
   }
 
   private PropertyValue internalSetValue(Property property, PropertyValue value) {
     PropertyValue oldValue = (PropertyValue) (value == null ? values.remove(property) : values.put(property, value));
+    lookupChanged();
 
     if (value != null)
       value.updateListener(hasListener());
@@ -657,9 +866,22 @@ public class PropertyMapImpl implements PropertyMap {
     }
   }
 
-  void firePropertyValuesChanged(Map changes) {
+  int getTreeListenerCount() {
+    return treeListeners == null ? 0 : treeListeners.size();
+  }
+
+  /**
+   * Notifies the listeners of this map about changed property values.
+   *
+   * @param changes the changes
+   * @return the number of listeners notified
+   */
+  int firePropertyValuesChanged(Map changes) {
+    int count = 0;
+
     if (listeners != null) {
       PropertyMapListener[] l = (PropertyMapListener[]) listeners.toArray(new PropertyMapListener[listeners.size()]);
+      count += l.length;
 
       for (int i = 0; i < l.length; i++)
         l[i].propertyValuesChanged(this, changes);
@@ -673,12 +895,15 @@ public class PropertyMapImpl implements PropertyMap {
         if (list != null) {
           ValueChange vc = (ValueChange) entry.getValue();
           PropertyChangeListener[] l = (PropertyChangeListener[]) list.toArray(new PropertyChangeListener[list.size()]);
+          count += l.length;
 
           for (int i = 0; i < l.length; i++)
             l[i].propertyChanged((Property) entry.getKey(), this, vc.getOldValue(), vc.getNewValue());
         }
       }
     }
+
+    return count;
   }
 
   public void dump() {
@@ -695,35 +920,37 @@ public class PropertyMapImpl implements PropertyMap {
     if (!values.isEmpty())
       printer.println();
 
-    for (int i = 0; i < superMaps.size(); i++) {
-/*      if (printed.contains(superMaps.get(i)))
+    for (int i = 0; i < getSuperMapCount(); i++) {
+/*      if (printed.contains(getSuperMapImpl(i)))
         continue;
 */
       printer.println("Super Object " + (i + 1) + ':');
       printer.beginSection();
-      ((PropertyMapImpl) superMaps.get(i)).dump(printer, printed);
+      getSuperMapImpl(i).dump(printer, printed);
       printer.endSection();
       printer.println();
     }
 
-    for (ConstMapIterator iterator = childMaps.constIterator(); iterator.atEntry(); iterator.next()) {
-      printer.println(iterator.getKey() + ":");
-      printer.beginSection();
-      ((PropertyMapImpl) iterator.getValue()).dump(printer, printed);
-      printer.endSection();
-      printer.println();
+    for (int i = 0; childMaps != null && i < childMaps.length; i++) {
+      if (childMaps[i] != null) {
+        printer.println(childMaps[i].property + ":");
+        printer.beginSection();
+        childMaps[i].dump(printer, printed);
+        printer.endSection();
+        printer.println();
+      }
     }
   }
 
   public void dumpSuperMaps(Printer printer) {
     printer.println(System.identityHashCode(this) + ":" + this);
 
-    for (int i = 0; i < superMaps.size(); i++) {
-//      if (superMap.getMap(i) != ((PropertyMapImpl) superMaps.get(i)).map)
+    for (int i = 0; i < getSuperMapCount(); i++) {
+//      if (superMap.getMap(i) != getSuperMapImpl(i).map)
 //        System.out.println("Error!");
 
       printer.beginSection();
-      ((PropertyMapImpl) superMaps.get(i)).dumpSuperMaps(printer);
+      getSuperMapImpl(i).dumpSuperMaps(printer);
       printer.endSection();
     }
 
@@ -753,10 +980,10 @@ public class PropertyMapImpl implements PropertyMap {
     for (int i = 0; i < items.size(); i++)
       removeValue((Property) items.get(i));
 
-    if (recursive) {
-      for (ConstMapIterator iterator = childMaps.constIterator(); iterator.atEntry(); iterator.next()) {
-        ((PropertyMapImpl) iterator.getValue()).doClear(recursive);
-      }
+    if (recursive && childMaps != null) {
+      for (int i = 0; i < childMaps.length; i++)
+        if (childMaps[i] != null)
+          childMaps[i].doClear(recursive);
     }
   }
 
@@ -768,11 +995,10 @@ public class PropertyMapImpl implements PropertyMap {
         return false;
     }
 
-    if (recursive) {
-      for (ConstMapIterator iterator = childMaps.constIterator(); iterator.atEntry(); iterator.next()) {
-        if (!((PropertyMapImpl) iterator.getValue()).isEmpty(recursive))
+    if (recursive && childMaps != null) {
+      for (int i = 0; i < childMaps.length; i++)
+        if (childMaps[i] != null && !childMaps[i].isEmpty(recursive))
           return false;
-      }
     }
 
     return true;
@@ -815,12 +1041,12 @@ public class PropertyMapImpl implements PropertyMap {
 
     out.writeBoolean(false);
 
-    if (recursive) {
-      for (ConstMapIterator iterator = childMaps.constIterator(); iterator.atEntry(); iterator.next()) {
-        if (!((PropertyMapImpl) iterator.getValue()).isEmpty(true)) {
+    if (recursive && childMaps != null) {
+      for (int i = 0; i < childMaps.length; i++) {
+        if (childMaps[i] != null && !childMaps[i].isEmpty(true)) {
           out.writeBoolean(true);
-          out.writeUTF(((Property) iterator.getKey()).getName());
-          ((PropertyMapImpl) iterator.getValue()).doWrite(out, recursive);
+          out.writeUTF(childMaps[i].property.getName());
+          childMaps[i].doWrite(out, recursive);
         }
       }
     }
@@ -868,18 +1094,28 @@ public class PropertyMapImpl implements PropertyMap {
   private boolean doValuesEqual(PropertyMapImpl propertyObject, boolean recursive) {
     for (ConstMapIterator iterator = map.constIterator(); iterator.atEntry(); iterator.next()) {
       Property property = (Property) iterator.getKey();
+      PropertyValue value = propertyObject == null ? null : propertyObject.getValue(property);
 
-      if (!Utils.equals(((PropertyValue) iterator.getValue()).get(this), propertyObject.getValue(property).get(this)))
+      if (!Utils.equals(((PropertyValue) iterator.getValue()).get(this), value == null ? null : value.get(this)))
         return false;
     }
 
     if (recursive) {
-      for (ConstMapIterator iterator = childMaps.constIterator(); iterator.atEntry(); iterator.next()) {
-        PropertyMapProperty property = (PropertyMapProperty) iterator.getKey();
-
-        if (!((PropertyMapImpl) iterator.getValue()).doValuesEqual(propertyObject.getChildMapImpl(property),
-                                                                   recursive))
-          return false;
+      // A child map that hasn't been created is treated as a map without values, unless it would inherit values from
+      // a child map of a super map
+      Property[] properties = propertyGroup.getProperties();
+
+      for (int i = 0; i < properties.length; i++) {
+        if (properties[i] instanceof PropertyMapProperty) {
+          PropertyMapProperty property = (PropertyMapProperty) properties[i];
+          PropertyMapImpl childMap = hasChildMap(property) ? getChildMapImpl(property) : null;
+          PropertyMapImpl otherChildMap = propertyObject != null && propertyObject.hasChildMap(property) ?
+                                          propertyObject.getChildMapImpl(property) : null;
+
+          if (childMap != null ? !childMap.doValuesEqual(otherChildMap, recursive) :
+              otherChildMap != null && !otherChildMap.doValuesEqual(null, recursive))
+            return false;
+        }
       }
     }
 
@@ -902,21 +1138,19 @@ public class PropertyMapImpl implements PropertyMap {
 
       if (value.getParent() == null) {
         map.values.put(iterator.getKey(), value.copyTo(map));
+        map.lookupChanged();
       }
     }
 
     if (copySuperMaps) {
-      for (int i = 0; i < (topMap ? superMaps.size() : superMaps.size() - parent.superMaps.size()); i++)
-        map.addSuperMap((PropertyMapImpl) superMaps.get(i));
+      for (int i = 0; i < (topMap ? getSuperMapCount() : getSuperMapCount() - parent.getSuperMapCount()); i++)
+        map.addSuperMap(getSuperMapImpl(i));
     }
 
-    if (recursive) {
-      for (ConstMapIterator iterator = childMaps.constIterator(); iterator.atEntry(); iterator.next()) {
-        ((PropertyMapImpl) iterator.getValue()).doCopy(
-            (PropertyMapImpl) map.getChildMap((PropertyMapProperty) iterator.getKey()),
-            copySuperMaps,
-            recursive,
-            false);
+    if (recursive && childMaps != null) {
+      for (int i = 0; i < childMaps.length; i++) {
+        if (childMaps[i] != null)
+          childMaps[i].doCopy(map.getChildMapImpl(childMaps[i].property), copySuperMaps, recursive, false);
       }
     }
   }
@@ -24,19 +24,27 @@
 package net.infonode.properties.propertymap;
 
 import net.infonode.properties.propertymap.value.PropertyValue;
+import net.infonode.util.Metrics;
+import net.infonode.util.MetricsRecorder;
 import net.infonode.util.Utils;
 import net.infonode.util.ValueChange;
 import net.infonode.util.collection.map.base.ConstMap;
 import net.infonode.util.collection.map.base.ConstMapIterator;
 
+import javax.swing.*;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Utility class for performing multiple modifications to {@link PropertyMap}'s and merging change notifications to
  * optimize performance.
+ * <p>
+ * Batches are confined to the thread that begins them, so property maps can be built and modified in a batch on a
+ * background thread while other threads use their own batches. The change notifications of such a batch can be
+ * delivered on the event dispatch thread by ending it with {@link #endBatchOnEventThread()}.
  *
  * @author $Author: jesper $
  * @version $Revision: 1.16 $
@@ -44,8 +52,15 @@ import java.util.Map;
 public class PropertyMapManager {
   private static final PropertyMapManager INSTANCE = new PropertyMapManager();
 
-  private HashMap changes;
-  private int batchCounter;
+  private static class Batch {
+    private HashMap changes = new HashMap();
+    private int counter;
+  }
+
+  private final ThreadLocal<Batch> batch = new ThreadLocal<Batch>();
+
+  private volatile boolean compiledLookup;
+  private final AtomicInteger lookupVersion = new AtomicInteger();
 
   /**
    * Returns the only instance of this class.
@@ -56,12 +71,60 @@ public class PropertyMapManager {
     return INSTANCE;
   }
 
+  /**
+   * Enables or disables compiled property lookup. When enabled, each property map caches resolved property values in
+   * an array indexed by the property slot assigned by its {@link PropertyMapGroup}. The cache of a map is invalidated
+   * when a value or super map is changed in the map or in a map it inherits from, and the caches of all maps are
+   * invalidated when a default value is changed, so lookups return the same values as in non-compiled mode.
+   * Compiled lookup is disabled by default.
+   *
+   * @param enabled true if compiled lookup should be enabled
+   * @since IDW 1.7.0
+   */
+  public void setCompiledLookup(boolean enabled) {
+    compiledLookup = enabled;
+    lookupChanged();
+  }
+
+  /**
+   * Returns true if compiled property lookup is enabled.
+   *
+   * @return true if compiled property lookup is enabled
+   * @since IDW 1.7.0
+   */
+  public boolean isCompiledLookup() {
+    return compiledLookup;
+  }
+
+  int getLookupVersion() {
+    return lookupVersion.get();
+  }
+
+  void lookupChanged() {
+    lookupVersion.incrementAndGet();
+  }
+
   void addMapChanges(PropertyMapImpl propertyMap, ConstMap mapChanges) {
-    HashMap map = (HashMap) changes.get(propertyMap);
+    Batch b = batch.get();
+
+    if (b == null) {
+      beginBatch();
+
+      try {
+        addMapChanges(propertyMap, mapChanges);
+      }
+      finally {
+        endBatch();
+      }
+
+      return;
+    }
+
+    HashMap map = (HashMap) b.changes.get(propertyMap);
 
     if (map == null) {
       map = new HashMap();
-      changes.put(propertyMap, map);
+      b.changes.put(propertyMap, map);
     }
 
     for (ConstMapIterator iterator = mapChanges.constIterator(); iterator.atEntry(); iterator.next()) {
@@ -99,60 +162,139 @@ public class PropertyMapManager {
     }
   }
 
+  /**
+   * Executes a method inside a {@link #beginBatch()} - {@link #endBatchOnEventThread()} pair. The method is invoked on
+   * the calling thread, but the merged change notifications are delivered on the event dispatch thread.
+   *
+   * @param runnable the runnable to invoke
+   * @since IDW 1.7.0
+   */
+  public static void runBatchOnEventThread(Runnable runnable) {
+    getInstance().beginBatch();
+
+    try {
+      runnable.run();
+    }
+    finally {
+      getInstance().endBatchOnEventThread();
+    }
+  }
+
   /**
    * Begins a batch operation. This stores and merges all change notifications occuring in all property maps until
    * {@link #endBatch} is called. Each call to this method MUST be followed by a call to {@link #endBatch}.
    * This method can be called an unlimited number of times without calling {@link #endBatch} in between, but each
    * call must have a corresponding call to {@link #endBatch}. Only when exiting from the
    * outermost {@link #endBatch()} the changes be propagated to the listeners.
+   * <p>
+   * The batch is confined to the calling thread, changes made by other threads are not part of it. The corresponding
+   * call to {@link #endBatch} or {@link #endBatchOnEventThread} must be made from the same thread.
    */
   public void beginBatch() {
-    if (batchCounter++ == 0)
-      changes = new HashMap();
-  }
-
-  private void addTreeChanges(PropertyMapImpl map, PropertyMapImpl modifiedMap, HashMap changes, HashMap treeChanges) {
-    HashMap changeMap = (HashMap) treeChanges.get(map);
+    Batch b = batch.get();
 
-    if (changeMap == null) {
-      changeMap = new HashMap();
-      treeChanges.put(map, changeMap);
+    if (b == null) {
+      b = new Batch();
+      batch.set(b);
     }
 
-    changeMap.put(modifiedMap, changes);
-
-    if (map.getParent() != null)
-      addTreeChanges(map.getParent(), modifiedMap, changes, treeChanges);
+    b.counter++;
   }
 
   /**
    * Ends a batch operation. See {@link #beginBatch()} for more information.
+   *
+   * @throws IllegalStateException if the calling thread has not begun a batch
    */
   public void endBatch() {
-    if (--batchCounter == 0) {
-      HashMap treeChanges = new HashMap();
-      HashMap localChanges = changes;
-      changes = null;
-
-      for (Iterator iterator = localChanges.entrySet().iterator(); iterator.hasNext();) {
-        Map.Entry entry = (Map.Entry) iterator.next();
-        PropertyMapImpl object = (PropertyMapImpl) entry.getKey();
-        HashMap objectChanges = (HashMap) entry.getValue();
-
-        if (!objectChanges.isEmpty()) {
-          object.firePropertyValuesChanged(Collections.unmodifiableMap(objectChanges));
-          addTreeChanges(object, object, objectChanges, treeChanges);
+    HashMap changes = finishBatch();
+
+    if (changes != null)
+      fireChanges(changes);
+  }
+
+  /**
+   * Ends a batch operation. When exiting from the outermost batch, all merged change notifications are delivered to
+   * the listeners in a single {@link SwingUtilities#invokeLater} call, or directly if the calling thread is the event
+   * dispatch thread. See {@link #beginBatch()} for more information.
+   *
+   * @throws IllegalStateException if the calling thread has not begun a batch
+   * @since IDW 1.7.0
+   */
+  public void endBatchOnEventThread() {
+    final HashMap changes = finishBatch();
+
+    if (changes != null) {
+      if (SwingUtilities.isEventDispatchThread())
+        fireChanges(changes);
+      else
+        SwingUtilities.invokeLater(new Runnable() {
+          public void run() {
+            fireChanges(changes);
+          }
+        });
+    }
+  }
+
+  private HashMap finishBatch() {
+    Batch b = batch.get();
+
+    if (b == null)
+      throw new IllegalStateException("No batch has been begun on this thread!");
+
+    if (--b.counter > 0)
+      return null;
+
+    batch.remove();
+    return b.changes;
+  }
+
+  private static void addTreeChanges(PropertyMapImpl modifiedMap, HashMap changes, HashMap treeChanges) {
+    for (PropertyMapImpl map = modifiedMap; map != null; map = map.getParent()) {
+      if (map.hasTreeListeners()) {
+        HashMap changeMap = (HashMap) treeChanges.get(map);
+
+        if (changeMap == null) {
+          changeMap = new HashMap();
+          treeChanges.put(map, changeMap);
         }
+
+        changeMap.put(modifiedMap, changes);
+      }
+    }
+  }
+
+  private static void fireChanges(HashMap changes) {
+    MetricsRecorder metrics = Metrics.getRecorder();
+    long start = metrics == null ? 0 : System.nanoTime();
+    int listenerCount = 0;
+    HashMap treeChanges = new HashMap();
+
+    for (Iterator iterator = changes.entrySet().iterator(); iterator.hasNext();) {
+      Map.Entry entry = (Map.Entry) iterator.next();
+      PropertyMapImpl object = (PropertyMapImpl) entry.getKey();
+      HashMap objectChanges = (HashMap) entry.getValue();
+
+      if (!objectChanges.isEmpty()) {
+        listenerCount += object.firePropertyValuesChanged(Collections.unmodifiableMap(objectChanges));
+        addTreeChanges(object, objectChanges, treeChanges);
       }
+    }
 
-      for (Iterator iterator = treeChanges.entrySet().iterator(); iterator.hasNext();) {
-        Map.Entry entry = (Map.Entry) iterator.next();
-        PropertyMapImpl object = (PropertyMapImpl) entry.getKey();
-        HashMap objectChanges = (HashMap) entry.getValue();
+    for (Iterator iterator = treeChanges.entrySet().iterator(); iterator.hasNext();) {
+      Map.Entry entry = (Map.Entry) iterator.next();
+      PropertyMapImpl object = (PropertyMapImpl) entry.getKey();
+      HashMap objectChanges = (HashMap) entry.getValue();
 
-        if (!objectChanges.isEmpty())
-          object.firePropertyTreeValuesChanged(Collections.unmodifiableMap(objectChanges));
+      if (!objectChanges.isEmpty()) {
+        listenerCount += object.getTreeListenerCount();
+        object.firePropertyTreeValuesChanged(Collections.unmodifiableMap(objectChanges));
       }
     }
+
+    if (metrics != null) {
+      metrics.recordCount("properties.batchListeners", listenerCount);
+      metrics.recordTime("properties.batchNotify", System.nanoTime() - start);
+    }
   }
 }
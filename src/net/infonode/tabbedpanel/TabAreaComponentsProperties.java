@@ -92,6 +92,9 @@ public class TabAreaComponentsProperties extends PropertyMapContainer {
                                                                                        "Hover Listener to be used for tracking mouse hovering over the tab area components area.",
                                                                                        PropertyMapValueHandler.INSTANCE);
 
+  private ComponentProperties componentProperties;
+  private ShapedPanelProperties shapedPanelProperties;
+
   /**
    * Constructs an empty TabAreaComponentsProperties object
    */
@@ -180,7 +183,10 @@ public class TabAreaComponentsProperties extends PropertyMapContainer {
    * @return component properties
    */
   public ComponentProperties getComponentProperties() {
-    return new ComponentProperties(COMPONENT_PROPERTIES.get(getMap()));
+    if (componentProperties == null)
+      componentProperties = new ComponentProperties(COMPONENT_PROPERTIES.get(getMap()));
+
+    return componentProperties;
   }
 
   /**
@@ -190,7 +196,10 @@ public class TabAreaComponentsProperties extends PropertyMapContainer {
    * @since ITP 1.2.0
    */
   public ShapedPanelProperties getShapedPanelProperties() {
-    return new ShapedPanelProperties(SHAPED_PANEL_PROPERTIES.get(getMap()));
+    if (shapedPanelProperties == null)
+      shapedPanelProperties = new ShapedPanelProperties(SHAPED_PANEL_PROPERTIES.get(getMap()));
+
+    return shapedPanelProperties;
   }
 
   /**
@@ -90,6 +90,9 @@ public class TabAreaProperties extends PropertyMapContainer {
       "Visiblity for the tab area.",
       PropertyMapValueHandler.INSTANCE);
 
+  private ComponentProperties componentProperties;
+  private ShapedPanelProperties shapedPanelProperties;
+
   /**
    * Constructs an empty TabAreaProperties object
    */
@@ -156,7 +159,10 @@ public class TabAreaProperties extends PropertyMapContainer {
    * @return component properties
    */
   public ComponentProperties getComponentProperties() {
-    return new ComponentProperties(COMPONENT_PROPERTIES.get(getMap()));
+    if (componentProperties == null)
+      componentProperties = new ComponentProperties(COMPONENT_PROPERTIES.get(getMap()));
+
+    return componentProperties;
   }
 
   /**
@@ -166,7 +172,10 @@ public class TabAreaProperties extends PropertyMapContainer {
    * @since ITP 1.2.0
    */
   public ShapedPanelProperties getShapedPanelProperties() {
-    return new ShapedPanelProperties(SHAPED_PANEL_PROPERTIES.get(getMap()));
+    if (shapedPanelProperties == null)
+      shapedPanelProperties = new ShapedPanelProperties(SHAPED_PANEL_PROPERTIES.get(getMap()));
+
+    return shapedPanelProperties;
   }
 
   /**
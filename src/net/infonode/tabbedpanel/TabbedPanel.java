@@ -27,6 +27,7 @@ import net.infonode.gui.*;
 import net.infonode.gui.draggable.*;
 import net.infonode.gui.hover.HoverEvent;
 import net.infonode.gui.hover.HoverListener;
+import net.infonode.gui.hover.hoverable.HoverManager;
 import net.infonode.gui.hover.panel.HoverableShapedPanel;
 import net.infonode.gui.layout.DirectionLayout;
 import net.infonode.gui.panel.BaseContainerUtil;
@@ -456,6 +457,7 @@ public class TabbedPanel extends JPanel {
     updateTabDropDownList();
     draggableComponentBox.setScrollOffset(properties.getTabScrollingOffset());
     draggableComponentBox.setEnsureSelectedVisible(properties.getEnsureSelectedTabVisible());
+    draggableComponentBox.setVirtualized(properties.getTabVirtualizationEnabled());
 
     tabAreaOrientation = properties.getTabAreaOrientation();
     updatePropertiesForTabAreaLayoutConstraints();
@@ -524,6 +526,10 @@ public class TabbedPanel extends JPanel {
         draggableComponentBox.setEnsureSelectedVisible(
             ((Boolean) ((ValueChange) m.get(TabbedPanelProperties.ENSURE_SELECTED_VISIBLE)).getNewValue()).booleanValue());
 
+      if (keySet.contains(TabbedPanelProperties.TAB_VIRTUALIZATION_ENABLED))
+        draggableComponentBox.setVirtualized(
+            ((Boolean) ((ValueChange) m.get(TabbedPanelProperties.TAB_VIRTUALIZATION_ENABLED)).getNewValue()).booleanValue());
+
       if (keySet.contains(TabbedPanelProperties.TAB_AREA_ORIENTATION)) {
         tabAreaOrientation = (Direction) ((ValueChange) m.get(TabbedPanelProperties.TAB_AREA_ORIENTATION)).getNewValue();
         updatePropertiesForTabAreaLayoutConstraints();
@@ -574,6 +580,10 @@ public class TabbedPanel extends JPanel {
         componentsPanel.setHoverListener(
             (HoverListener) ((ValueChange) m.get(TabbedPanelProperties.HOVER_LISTENER)).getNewValue());
       }
+
+      if (keySet.contains(TabbedPanelProperties.HOVER_POLICY)) {
+        HoverManager.getInstance().acceptHoverChanged();
+      }
     }
 
     updatePanelOpaque();
@@ -1582,6 +1592,8 @@ public class TabbedPanel extends JPanel {
   }
 
   private class ShadowPanel extends HoverablePanel {
+    private ShadowPainter shadowPainter;
+
     ShadowPanel() {
       super(new BorderLayout(), properties.getHoverListener());
       setCursor(null);
@@ -1606,20 +1618,23 @@ public class TabbedPanel extends JPanel {
       if (contentPanel == null || !properties.getShadowEnabled())
         return;
 
-      new ShadowPainter(this,
-                        componentsPanel,
-                        highlightedTab,
-                        contentPanel,
-                        tabAreaComponentsPanel,
-                        tabAreaContainer,
-                        draggableComponentBox,
-                        properties.getTabAreaOrientation(),
-                        properties.getPaintTabAreaShadow(),
-                        shadowSize,
-                        properties.getShadowBlendAreaSize(),
-                        properties.getShadowColor(),
-                        properties.getShadowStrength(),
-                        getTabIndex(getHighlightedTab()) == getTabCount() - 1).paint(g);
+      if (shadowPainter == null)
+        shadowPainter = new ShadowPainter(this,
+                                          componentsPanel,
+                                          contentPanel,
+                                          tabAreaComponentsPanel,
+                                          tabAreaContainer,
+                                          draggableComponentBox);
+
+      shadowPainter.paint(g,
+                          highlightedTab,
+                          properties.getTabAreaOrientation(),
+                          properties.getPaintTabAreaShadow(),
+                          shadowSize,
+                          properties.getShadowBlendAreaSize(),
+                          properties.getShadowColor(),
+                          properties.getShadowStrength(),
+                          getTabIndex(getHighlightedTab()) == getTabCount() - 1);
     }
   }
 }
\ No newline at end of file
@@ -82,6 +82,12 @@ public class TabbedPanelButtonProperties extends PropertyMapContainer {
                                                                                                          "Properties for the tab drop down list button.",
                                                                                                          ButtonProperties.PROPERTIES);
 
+  private ButtonProperties scrollUpButtonProperties;
+  private ButtonProperties scrollDownButtonProperties;
+  private ButtonProperties scrollLeftButtonProperties;
+  private ButtonProperties scrollRightButtonProperties;
+  private ButtonProperties tabDropDownListButtonProperties;
+
   /**
    * Constructs an empty TabbedPanelButtonProperties object
    */
@@ -148,7 +154,10 @@ public class TabbedPanelButtonProperties extends PropertyMapContainer {
    * @return the scroll up button properties
    */
   public ButtonProperties getScrollUpButtonProperties() {
-    return new ButtonProperties(SCROLL_UP_BUTTON_PROPERTIES.get(getMap()));
+    if (scrollUpButtonProperties == null)
+      scrollUpButtonProperties = new ButtonProperties(SCROLL_UP_BUTTON_PROPERTIES.get(getMap()));
+
+    return scrollUpButtonProperties;
   }
 
   /**
@@ -157,7 +166,10 @@ public class TabbedPanelButtonProperties extends PropertyMapContainer {
    * @return the scroll down button properties
    */
   public ButtonProperties getScrollDownButtonProperties() {
-    return new ButtonProperties(SCROLL_DOWN_BUTTON_PROPERTIES.get(getMap()));
+    if (scrollDownButtonProperties == null)
+      scrollDownButtonProperties = new ButtonProperties(SCROLL_DOWN_BUTTON_PROPERTIES.get(getMap()));
+
+    return scrollDownButtonProperties;
   }
 
   /**
@@ -166,7 +178,10 @@ public class TabbedPanelButtonProperties extends PropertyMapContainer {
    * @return the scroll up button properties
    */
   public ButtonProperties getScrollLeftButtonProperties() {
-    return new ButtonProperties(SCROLL_LEFT_BUTTON_PROPERTIES.get(getMap()));
+    if (scrollLeftButtonProperties == null)
+      scrollLeftButtonProperties = new ButtonProperties(SCROLL_LEFT_BUTTON_PROPERTIES.get(getMap()));
+
+    return scrollLeftButtonProperties;
   }
 
   /**
@@ -175,7 +190,10 @@ public class TabbedPanelButtonProperties extends PropertyMapContainer {
    * @return the scroll right button properties
    */
   public ButtonProperties getScrollRightButtonProperties() {
-    return new ButtonProperties(SCROLL_RIGHT_BUTTON_PROPERTIES.get(getMap()));
+    if (scrollRightButtonProperties == null)
+      scrollRightButtonProperties = new ButtonProperties(SCROLL_RIGHT_BUTTON_PROPERTIES.get(getMap()));
+
+    return scrollRightButtonProperties;
   }
 
   /**
@@ -184,6 +202,9 @@ public class TabbedPanelButtonProperties extends PropertyMapContainer {
    * @return the tab drop down list button properties
    */
   public ButtonProperties getTabDropDownListButtonProperties() {
-    return new ButtonProperties(TAB_DROP_DOWN_LIST_BUTTON_PROPERTIES.get(getMap()));
+    if (tabDropDownListButtonProperties == null)
+      tabDropDownListButtonProperties = new ButtonProperties(TAB_DROP_DOWN_LIST_BUTTON_PROPERTIES.get(getMap()));
+
+    return tabDropDownListButtonProperties;
   }
 }
\ No newline at end of file
@@ -80,6 +80,9 @@ public class TabbedPanelContentPanelProperties extends PropertyMapContainer {
                                                                                        "Hover Listener to be used for tracking mouse hovering over the content area.",
                                                                                        PropertyMapValueHandler.INSTANCE);
 
+  private ComponentProperties componentProperties;
+  private ShapedPanelProperties shapedPanelProperties;
+
   /**
    * Constructs an empty TabbedPanelContentPanelProperties object
    */
@@ -147,7 +150,10 @@ public class TabbedPanelContentPanelProperties extends PropertyMapContainer {
    * @return component properties
    */
   public ComponentProperties getComponentProperties() {
-    return new ComponentProperties(COMPONENT_PROPERTIES.get(getMap()));
+    if (componentProperties == null)
+      componentProperties = new ComponentProperties(COMPONENT_PROPERTIES.get(getMap()));
+
+    return componentProperties;
   }
 
   /**
@@ -157,7 +163,10 @@ public class TabbedPanelContentPanelProperties extends PropertyMapContainer {
    * @since ITP 1.2.0
    */
   public ShapedPanelProperties getShapedPanelProperties() {
-    return new ShapedPanelProperties(SHAPED_PANEL_PROPERTIES.get(getMap()));
+    if (shapedPanelProperties == null)
+      shapedPanelProperties = new ShapedPanelProperties(SHAPED_PANEL_PROPERTIES.get(getMap()));
+
+    return shapedPanelProperties;
   }
 
   /**
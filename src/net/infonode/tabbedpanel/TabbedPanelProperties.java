@@ -146,6 +146,16 @@ public class TabbedPanelProperties extends PropertyMapContainer {
   public static final BooleanProperty ENSURE_SELECTED_VISIBLE = new BooleanProperty(PROPERTIES, "Ensure Selected Visible", "Upon select, the selected tab will be scrolled into the visible area.",
                                                                                     PropertyMapValueHandler.INSTANCE);
 
+  /**
+   * Tab virtualization enabled property
+   *
+   * @see #setTabVirtualizationEnabled
+   * @see #getTabVirtualizationEnabled
+   * @since IDW 1.7.0
+   */
+  public static final BooleanProperty TAB_VIRTUALIZATION_ENABLED = new BooleanProperty(PROPERTIES, "Tab Virtualization Enabled", "When scrolling, only the tabs in and near the visible part of the tab area are added to the tab area.",
+                                                                                       PropertyMapValueHandler.INSTANCE);
+
   /**
    * Tab area orientation property
    *
@@ -366,6 +376,7 @@ public class TabbedPanelProperties extends PropertyMapContainer {
                                                           ABORT_DRAG_KEY,
                                                           TAB_LAYOUT_POLICY,
                                                           ENSURE_SELECTED_VISIBLE,
+                                                          TAB_VIRTUALIZATION_ENABLED,
                                                           AUTO_SELECT_TAB,
                                                           TAB_DESELECTABLE,
                                                           TAB_SELECT_TRIGGER,
@@ -464,6 +475,7 @@ public class TabbedPanelProperties extends PropertyMapContainer {
         .setTabScrollingOffset(10).setTabSpacing(-1)
         .setTabDepthOrderPolicy(TabDepthOrderPolicy.DESCENDING)
         .setEnsureSelectedTabVisible(false)
+        .setTabVirtualizationEnabled(false)
         .setTabAreaOrientation(Direction.UP)
         .setAutoSelectTab(true)
         .setHighlightPressedTab(true)
@@ -503,6 +515,11 @@ public class TabbedPanelProperties extends PropertyMapContainer {
         .setDisabledIcon(null);
   }
 
+  private TabbedPanelContentPanelProperties contentPanelProperties;
+  private TabAreaProperties tabAreaProperties;
+  private TabAreaComponentsProperties tabAreaComponentsProperties;
+  private TabbedPanelButtonProperties buttonProperties;
+
   /**
    * Constructs an empty TabbedPanelProperties object
    */
@@ -997,6 +1014,38 @@ public class TabbedPanelProperties extends PropertyMapContainer {
     return ENSURE_SELECTED_VISIBLE.get(getMap());
   }
 
+  /**
+   * <p>
+   * Sets if only the tabs in and near the visible part of the tab area should be added as components to the tab area.
+   * The other tabs are laid out using their last known sizes. This reduces the layout time for tabbed panels with a
+   * large number of tabs.
+   * </p>
+   * <p>
+   * <strong>Note: </strong> This will only have effect if scolling is
+   * enabled.
+   * </p>
+   *
+   * @param enabled true for enabled, otherwise false
+   * @return this TabbedPanelProperties
+   * @see #setTabLayoutPolicy
+   * @since IDW 1.7.0
+   */
+  public TabbedPanelProperties setTabVirtualizationEnabled(boolean enabled) {
+    TAB_VIRTUALIZATION_ENABLED.set(getMap(), enabled);
+    return this;
+  }
+
+  /**
+   * Gets if only the tabs in and near the visible part of the tab area are added as components to the tab area.
+   *
+   * @return true if enabled, otherwise false
+   * @see #getTabLayoutPolicy
+   * @since IDW 1.7.0
+   */
+  public boolean getTabVirtualizationEnabled() {
+    return TAB_VIRTUALIZATION_ENABLED.get(getMap());
+  }
+
   /**
    * Returns true if a shadow is painted for the tab area, false if a shadow
    * is painted for the highlighted tab and the tab area components panel.
@@ -1216,7 +1265,10 @@ public class TabbedPanelProperties extends PropertyMapContainer {
    * @return the properties for the content area
    */
   public TabbedPanelContentPanelProperties getContentPanelProperties() {
-    return new TabbedPanelContentPanelProperties(CONTENT_PANEL_PROPERTIES.get(getMap()));
+    if (contentPanelProperties == null)
+      contentPanelProperties = new TabbedPanelContentPanelProperties(CONTENT_PANEL_PROPERTIES.get(getMap()));
+
+    return contentPanelProperties;
   }
 
   /**
@@ -1226,7 +1278,10 @@ public class TabbedPanelProperties extends PropertyMapContainer {
    * @return the properties for the tab area
    */
   public TabAreaProperties getTabAreaProperties() {
-    return new TabAreaProperties(TAB_AREA_PROPERTIES.get(getMap()));
+    if (tabAreaProperties == null)
+      tabAreaProperties = new TabAreaProperties(TAB_AREA_PROPERTIES.get(getMap()));
+
+    return tabAreaProperties;
   }
 
   /**
@@ -1237,7 +1292,10 @@ public class TabbedPanelProperties extends PropertyMapContainer {
    * @since ITP 1.1.0
    */
   public TabAreaComponentsProperties getTabAreaComponentsProperties() {
-    return new TabAreaComponentsProperties(TAB_AREA_COMPONENTS_PROPERTIES.get(getMap()));
+    if (tabAreaComponentsProperties == null)
+      tabAreaComponentsProperties = new TabAreaComponentsProperties(TAB_AREA_COMPONENTS_PROPERTIES.get(getMap()));
+
+    return tabAreaComponentsProperties;
   }
 
   /**
@@ -1248,6 +1306,9 @@ public class TabbedPanelProperties extends PropertyMapContainer {
    * @since ITP 1.3.0
    */
   public TabbedPanelButtonProperties getButtonProperties() {
-    return new TabbedPanelButtonProperties(BUTTON_PROPERTIES.get(getMap()));
+    if (buttonProperties == null)
+      buttonProperties = new TabbedPanelButtonProperties(BUTTON_PROPERTIES.get(getMap()));
+
+    return buttonProperties;
   }
 }
\ No newline at end of file
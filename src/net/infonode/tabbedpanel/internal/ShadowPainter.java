@@ -31,22 +31,45 @@ import net.infonode.util.Direction;
 
 import javax.swing.*;
 import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
+ * Paints the shadows of a tabbed panel. The painter should be kept and reused for all paints of the same panel. The
+ * shadow colors and the images of the shadow corners are kept for the last two background colors, the panel and the
+ * tab background, and are recomputed when the shadow properties change. Only the parts of the shadow that intersect
+ * the clip area are painted.
+ *
  * @author $Author: jesper $
  * @version $Revision: 1.9 $
  * @since ITP 1.1.0
  */
 public class ShadowPainter {
+  private static final int LEFT_CORNER = 0;
+  private static final int RIGHT_CORNER = 2;
+  private static final int MAX_BACKGROUND_COLORS = 2;
+
+  private static class ShadowColors {
+    private final Color color;
+    private final Color[] blendColors;
+    private final Image[] cornerImages = new Image[4];
+
+    ShadowColors(Color color, Color[] blendColors) {
+      this.color = color;
+      this.blendColors = blendColors;
+    }
+  }
+
   private Color panelBackgroundColor;
   private Color tabBackgroundColor;
-  private Component component;
-  private JComponent componentsPanel;
+  private final Component component;
+  private final JComponent componentsPanel;
   private JComponent highlightedTab;
-  private JComponent contentPanel;
-  private JComponent tabAreaComponentsPanel;
-  private JComponent tabAreaContainer;
-  private JComponent tabBox;
+  private final JComponent contentPanel;
+  private final JComponent tabAreaComponentsPanel;
+  private final JComponent tabAreaContainer;
+  private final JComponent tabBox;
   private Direction tabOrientation;
   private boolean paintTabAreaShadow;
   private int shadowSize;
@@ -54,30 +77,40 @@ public class ShadowPainter {
   private Color shadowColor;
   private float shadowStrength;
   private boolean highlightedTabIsLast;
+  private final LinkedHashMap shadowColors = new LinkedHashMap(4, 0.75f, true) {
+    protected boolean removeEldestEntry(Map.Entry eldest) {
+      return size() > MAX_BACKGROUND_COLORS;
+    }
+  };
 
-  public ShadowPainter(Component component, JComponent componentsPanel, JComponent highlightedTab,
-                       JComponent contentPanel, JComponent tabAreaComponentsPanel, JComponent tabAreaContainer,
-                       JComponent tabBox, Direction tabOrientation, boolean paintTabAreaShadow,
-                       int shadowSize, int shadowBlendSize, Color shadowColor,
-                       float shadowStrength, boolean highlightedTabIsLast) {
+  public ShadowPainter(Component component, JComponent componentsPanel, JComponent contentPanel,
+                       JComponent tabAreaComponentsPanel, JComponent tabAreaContainer, JComponent tabBox) {
     this.component = component;
     this.componentsPanel = componentsPanel;
-    this.highlightedTab = highlightedTab == null ?
-                          null : !highlightedTab.isVisible() || !tabAreaContainer.isVisible() ? null : highlightedTab;
     this.contentPanel = contentPanel;
     this.tabAreaComponentsPanel = tabAreaComponentsPanel;
     this.tabAreaContainer = tabAreaContainer;
     this.tabBox = tabBox;
+  }
+
+  public void paint(Graphics g, JComponent highlightedTab, Direction tabOrientation, boolean paintTabAreaShadow,
+                    int shadowSize, int shadowBlendSize, Color shadowColor, float shadowStrength,
+                    boolean highlightedTabIsLast) {
+    if (shadowSize != this.shadowSize || shadowBlendSize != this.shadowBlendSize ||
+        shadowStrength != this.shadowStrength || !shadowColor.equals(this.shadowColor)) {
+      this.shadowSize = shadowSize;
+      this.shadowBlendSize = shadowBlendSize;
+      this.shadowColor = shadowColor;
+      this.shadowStrength = shadowStrength;
+      shadowColors.clear();
+    }
+
+    this.highlightedTab = highlightedTab == null ?
+                          null : !highlightedTab.isVisible() || !tabAreaContainer.isVisible() ? null : highlightedTab;
     this.tabOrientation = tabOrientation;
     this.paintTabAreaShadow = paintTabAreaShadow && tabAreaContainer.isVisible();
-    this.shadowSize = shadowSize;
-    this.shadowBlendSize = shadowBlendSize;
-    this.shadowColor = shadowColor;
-    this.shadowStrength = shadowStrength;
     this.highlightedTabIsLast = highlightedTabIsLast;
-  }
 
-  public void paint(Graphics g) {
     panelBackgroundColor = ComponentUtil.getBackgroundColor(component);
     panelBackgroundColor = panelBackgroundColor == null ?
                            UIManagerUtil.getColor("Panel.background", "control") : panelBackgroundColor;
@@ -344,8 +377,45 @@ public class ShadowPainter {
   }
 
   private void drawLeftCornerShadow(Graphics g, int x, int y, boolean upper, Color backgroundColor) {
+    drawCornerShadow(g, x, y, LEFT_CORNER, upper, backgroundColor);
+  }
+
+  private void drawRightCornerShadow(Graphics g, int x, int y, boolean flip, Color backgroundColor) {
+    drawCornerShadow(g, x, y, RIGHT_CORNER, flip, backgroundColor);
+  }
+
+  private void drawCornerShadow(Graphics g, int x, int y, int corner, boolean flip, Color backgroundColor) {
+    int size = shadowSize + shadowBlendSize;
+
+    if (size <= 0 || !g.hitClip(flip ? y : x, flip ? x : y, size, size))
+      return;
+
+    ShadowColors colors = getShadowColors(backgroundColor);
+    int index = corner + (flip ? 1 : 0);
+
+    if (colors.cornerImages[index] == null) {
+      BufferedImage image = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+      Graphics ig = image.getGraphics();
+
+      try {
+        if (corner == LEFT_CORNER)
+          renderLeftCornerShadow(ig, 0, 0, flip, colors);
+        else
+          renderRightCornerShadow(ig, 0, 0, flip, colors);
+      }
+      finally {
+        ig.dispose();
+      }
+
+      colors.cornerImages[index] = image;
+    }
+
+    g.drawImage(colors.cornerImages[index], flip ? y : x, flip ? x : y, null);
+  }
+
+  private void renderLeftCornerShadow(Graphics g, int x, int y, boolean upper, ShadowColors colors) {
     for (int i = 0; i < shadowBlendSize; i++) {
-      g.setColor(getShadowBlendColor(i, backgroundColor));
+      g.setColor(colors.blendColors[i]);
       int x1 = x + shadowSize + shadowBlendSize - 1 - i;
       int y1 = y + shadowSize - shadowBlendSize;
 
@@ -356,15 +426,15 @@ public class ShadowPainter {
     }
   }
 
-  private void drawRightCornerShadow(Graphics g, int x, int y, boolean flip, Color backgroundColor) {
-    g.setColor(getShadowColor(backgroundColor));
+  private void renderRightCornerShadow(Graphics g, int x, int y, boolean flip, ShadowColors colors) {
+    g.setColor(colors.color);
 
     for (int i = 0; i < shadowSize - shadowBlendSize; i++) {
       drawLine(g, x + i, y, x + i, y + shadowSize - shadowBlendSize, flip);
     }
 
     for (int i = 0; i < shadowBlendSize; i++) {
-      g.setColor(getShadowBlendColor(i, backgroundColor));
+      g.setColor(colors.blendColors[i]);
       int d = shadowSize - shadowBlendSize + i;
       drawLine(g, x + d, y, x + d, y + shadowSize - shadowBlendSize, flip);
       drawLine(g, x, y + d, x + shadowSize - shadowBlendSize, y + d, flip);
@@ -377,7 +447,11 @@ public class ShadowPainter {
     if (startX + (cornerStart ? 0 : shadowSize + shadowBlendSize) >= endX)
       return;
 
-    g.setColor(getShadowColor(backgroundColor));
+    if (vertical ? !g.hitClip(y, startX, shadowSize, endX - startX) : !g.hitClip(startX, y, endX - startX, shadowSize))
+      return;
+
+    ShadowColors colors = getShadowColors(backgroundColor);
+    g.setColor(colors.color);
 
     for (int i = 0; i < shadowSize - shadowBlendSize; i++) {
       drawLine(g,
@@ -389,7 +463,7 @@ public class ShadowPainter {
     }
 
     for (int i = 0; i < shadowBlendSize; i++) {
-      g.setColor(getShadowBlendColor(i, backgroundColor));
+      g.setColor(colors.blendColors[i]);
       int d = shadowSize - shadowBlendSize + i;
       drawLine(g,
                startX + (cornerStart ? d + (vertical ? 1 : 0) : shadowSize + shadowBlendSize),
@@ -425,6 +499,22 @@ public class ShadowPainter {
   }
 
 
+  private ShadowColors getShadowColors(Color backgroundColor) {
+    ShadowColors colors = (ShadowColors) shadowColors.get(backgroundColor);
+
+    if (colors == null) {
+      Color[] blendColors = new Color[Math.max(shadowBlendSize, 0)];
+
+      for (int i = 0; i < blendColors.length; i++)
+        blendColors[i] = getShadowBlendColor(i, backgroundColor);
+
+      colors = new ShadowColors(getShadowColor(backgroundColor), blendColors);
+      shadowColors.put(backgroundColor, colors);
+    }
+
+    return colors;
+  }
+
   private Color getShadowBlendColor(int offset, Color backgroundColor) {
     return backgroundColor == null ?
            new Color(shadowColor.getRed(),
@@ -168,6 +168,14 @@ public class SlopedTabLineBorder extends AbstractPolygonBorder {
     return bottomLeftRounded;
   }
 
+  protected boolean isPolygonCacheable() {
+    return getClass() == SlopedTabLineBorder.class;
+  }
+
+  protected int getPolygonState(Component c) {
+    return isBottomLeftRounded(c) ? 1 : 0;
+  }
+
   private static int[] getCorner(int type, float slope, boolean rounded) {
     return corners[type][!rounded ? 0 :
                          type < 4 ?
@@ -39,8 +39,61 @@ import javax.swing.event.ListSelectionListener;
  * @since ITP 1.1.0
  */
 public class TabDropDownList extends PopupList {
+  /**
+   * A list model that reads the tabs directly from the tabbed panel so that the tabs don't have to be copied every time
+   * the list is shown.
+   */
+  private class TabListModel extends AbstractListModel {
+    private static final long serialVersionUID = 1;
+
+    private int size = tabbedPanel.getTabCount();
+
+    public int getSize() {
+      return tabbedPanel.getTabCount();
+    }
+
+    public Object getElementAt(int index) {
+      return tabbedPanel.getTabAt(index);
+    }
+
+    void tabAdded(Tab tab) {
+      int index = tabbedPanel.getTabIndex(tab);
+      size++;
+      updatingModel = true;
+
+      try {
+        fireIntervalAdded(this, index, index);
+      }
+      finally {
+        updatingModel = false;
+      }
+    }
+
+    void tabsChanged() {
+      int newSize = getSize();
+      updatingModel = true;
+
+      try {
+        if (newSize < size)
+          fireIntervalRemoved(this, newSize, size - 1);
+        else if (newSize > size)
+          fireIntervalAdded(this, size, newSize - 1);
+
+        size = newSize;
+
+        if (size > 0)
+          fireContentsChanged(this, 0, size - 1);
+      }
+      finally {
+        updatingModel = false;
+      }
+    }
+  }
+
   private TabbedPanel tabbedPanel;
   private TextIconListCellRenderer cellRenderer;
+  private TabListModel listModel;
+  private boolean updatingModel;
 
   private TabListener tabListener = new TabAdapter() {
     public void tabAdded(TabEvent event) {
@@ -54,26 +107,45 @@ public class TabDropDownList extends PopupList {
     }
   };
 
+  private TabListener listModelListener = new TabAdapter() {
+    public void tabAdded(TabEvent event) {
+      listModel.tabAdded(event.getTab());
+    }
+
+    public void tabRemoved(TabRemovedEvent event) {
+      listModel.tabsChanged();
+    }
+
+    public void tabMoved(TabEvent event) {
+      listModel.tabsChanged();
+    }
+  };
+
   public TabDropDownList(final TabbedPanel tabbedPanel, AbstractButton button) {
     super(button);
     this.tabbedPanel = tabbedPanel;
 
+    listModel = new TabListModel();
+    getList().setModel(listModel);
+    tabbedPanel.addTabListener(listModelListener);
+
     addPopupListListener(new PopupListListener() {
       public void willBecomeVisible(PopupList l) {
-        int numTabs = tabbedPanel.getTabCount();
-        Tab[] tabs = new Tab[numTabs];
-        for (int i = 0; i < numTabs; i++) {
-          tabs[i] = tabbedPanel.getTabAt(i);
+        cellRenderer.calculateMaximumIconWidth(listModel);
+        int index = tabbedPanel.getTabIndex(tabbedPanel.getSelectedTab());
+
+        if (index < 0)
+          getList().clearSelection();
+        else {
+          getList().setSelectedIndex(index);
+          getList().ensureIndexIsVisible(index);
         }
-        cellRenderer.calculateMaximumIconWidth(tabs);
-        getList().setListData(tabs);
-        getList().setSelectedValue(tabbedPanel.getSelectedTab(), true);
       }
     });
 
     addListSelectionListener(new ListSelectionListener() {
       public void valueChanged(ListSelectionEvent e) {
-        if (!e.getValueIsAdjusting())
+        if (!e.getValueIsAdjusting() && !updatingModel)
           tabbedPanel.setSelectedTab((Tab) getList().getSelectedValue());
       }
     });
@@ -91,6 +163,7 @@ public class TabDropDownList extends PopupList {
 
   public void dispose() {
     tabbedPanel.removeTabListener(tabListener);
+    tabbedPanel.removeTabListener(listModelListener);
   }
 
   public void updateUI() {
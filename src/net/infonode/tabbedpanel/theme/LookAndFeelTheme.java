@@ -40,6 +40,7 @@ import net.infonode.util.Direction;
 
 import javax.swing.border.Border;
 import java.awt.*;
+import java.io.File;
 
 /**
  * <p>
@@ -61,6 +62,13 @@ import java.awt.*;
  * </p>
  *
  * <p>
+ * The tab geometry and colors are estimated by measuring and painting tabbed
+ * panes when the theme is created and when the look and feel changes. The
+ * estimations are cached in memory, and in a directory if one is set using
+ * {@link #setEstimationDirectory(File)}.
+ * </p>
+ *
+ * <p>
  * <strong>This theme is considered to be experimental and is not guaranteed to
  * be an exact replica of the active look and feel. It is also not guaranteed to
  * work together with the active look and feel. The theme may be changed,
@@ -111,6 +119,37 @@ public class LookAndFeelTheme extends TabbedPanelTitledTabTheme {
     themeTabProps.addSuperObject(tabProps);
   }
 
+  /**
+   * Gets the directory where the estimated tab geometry and colors are
+   * stored.
+   *
+   * @return the directory, null if the estimations are only kept in memory
+   * @since IDW 1.7.0
+   */
+  public static File getEstimationDirectory() {
+    return PaneUI.getEstimationDirectory();
+  }
+
+  /**
+   * <p>
+   * Sets the directory where the estimated tab geometry and colors are
+   * stored. The estimations are read from the directory instead of being made
+   * again when the application is started with the same look and feel, UI
+   * defaults and screen scale.
+   * </p>
+   *
+   * <p>
+   * The directory must be set before the first theme is created.
+   * </p>
+   *
+   * @param directory the directory, null means that the estimations are only
+   *                  kept in memory
+   * @since IDW 1.7.0
+   */
+  public static void setEstimationDirectory(File directory) {
+    PaneUI.setEstimationDirectory(directory);
+  }
+
   /**
    * Gets the name for this theme
    *
@@ -123,6 +123,14 @@ public class ShapedGradientTheme extends TabbedPanelTitledTabTheme {
     protected boolean isBottomLeftRounded(Component c) {
       return isFirst(c) ? false : bottomLeftRounded;
     }
+
+    protected boolean isPolygonCacheable() {
+      return true;
+    }
+
+    protected int getPolygonState(Component c) {
+      return super.getPolygonState(c) << 1 | (isNormal && isFirst(c) ? 1 : 0);
+    }
   }
 
   private TabbedPanelProperties tabbedPanelProperties = new TabbedPanelProperties();
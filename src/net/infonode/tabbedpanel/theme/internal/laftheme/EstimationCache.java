@@ -0,0 +1,391 @@
+/*
+ * Copyright (C) 2004 NNL Technology AB
+ * Visit www.infonode.net for information about InfoNode(R) 
+ * products and how to contact NNL Technology AB.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, 
+ * MA 02111-1307, USA.
+ */
+
+
+package net.infonode.tabbedpanel.theme.internal.laftheme;
+
+import javax.swing.*;
+import javax.swing.plaf.metal.MetalLookAndFeel;
+import java.awt.*;
+import java.io.*;
+import java.util.*;
+
+/**
+ * <p>
+ * Caches the tab geometry and colors that {@link PaneUI} estimates by measuring and painting tabbed panes. The
+ * estimations are keyed by the look and feel class, the look and feel theme, the tabbed pane UI defaults, which
+ * include the font, and the screen scale.
+ * </p>
+ *
+ * <p>
+ * The most recently used estimations are kept in memory. If a directory is set the estimations are also stored in it,
+ * so the measuring can be skipped when the application is started again. The files only contain primitive values, no
+ * serialized objects. Errors when reading or writing the directory, and files that don't have the expected format, are
+ * ignored and the estimation is then made again.
+ * </p>
+ *
+ * @author $Author: jesper $
+ * @version $Revision: 1.1 $
+ * @since IDW 1.7.0
+ */
+class EstimationCache {
+  private static final int SERIALIZE_VERSION = 2;
+
+  private static final int INSETS = 0;
+
+  private static final int DIMENSION = 1;
+
+  private static final int INT = 2;
+
+  private static final int COLOR = 3;
+
+  private static final int BOOLEAN = 4;
+
+  private static final int MAX_ARRAY_COUNT = 64;
+
+  private static final int MAX_ARRAY_LENGTH = 64;
+
+  private static final int MAX_ESTIMATIONS = 8;
+
+  private static final String FILE_PREFIX = "laftheme-";
+
+  private static final String FILE_SUFFIX = ".estimation";
+
+  private static final String UI_DEFAULTS_PREFIX = "TabbedPane";
+
+  private static final String[] THEME_DESKTOP_PROPERTIES = {"win.xpstyle.themeActive",
+                                                            "win.xpstyle.dllName",
+                                                            "win.xpstyle.colorName",
+                                                            "win.xpstyle.sizeName"};
+
+  private static final LinkedHashMap estimations = new LinkedHashMap(16, 0.75f, true) {
+    protected boolean removeEldestEntry(Map.Entry eldest) {
+      return size() > MAX_ESTIMATIONS;
+    }
+  };
+
+  private static File directory;
+
+  private EstimationCache() {
+  }
+
+  static File getDirectory() {
+    return directory;
+  }
+
+  static void setDirectory(File directory) {
+    EstimationCache.directory = directory;
+  }
+
+  /**
+   * Creates the key for the current look and feel, UI defaults and screen scale.
+   */
+  static String createKey() {
+    StringBuffer key = new StringBuffer();
+    LookAndFeel laf = UIManager.getLookAndFeel();
+    key.append(laf == null ? null : laf.getClass().getName());
+
+    if (laf instanceof MetalLookAndFeel)
+      key.append('|').append(MetalLookAndFeel.getCurrentTheme().getClass().getName()).append(':').append(
+          MetalLookAndFeel.getCurrentTheme().getName());
+
+    Toolkit toolkit = Toolkit.getDefaultToolkit();
+
+    for (int i = 0; i < THEME_DESKTOP_PROPERTIES.length; i++)
+      key.append('|').append(toolkit.getDesktopProperty(THEME_DESKTOP_PROPERTIES[i]));
+
+    key.append("|scale=").append(getScreenScale());
+
+    UIDefaults defaults = UIManager.getDefaults();
+    TreeMap values = new TreeMap();
+
+    for (Enumeration e = defaults.keys(); e.hasMoreElements();) {
+      Object k = e.nextElement();
+
+      if (k instanceof String && ((String) k).startsWith(UI_DEFAULTS_PREFIX)) {
+        String value = getValueString(defaults.get(k));
+
+        if (value != null)
+          values.put(k, value);
+      }
+    }
+
+    for (Iterator it = values.entrySet().iterator(); it.hasNext();) {
+      Map.Entry entry = (Map.Entry) it.next();
+      key.append('|').append(entry.getKey()).append('=').append(entry.getValue());
+    }
+
+    return key.toString();
+  }
+
+  /**
+   * Returns a string for the UI defaults values that are equal between look and feel installations, null for other
+   * values.
+   */
+  private static String getValueString(Object value) {
+    if (value instanceof Color)
+      return Integer.toHexString(((Color) value).getRGB());
+
+    if (value instanceof Font) {
+      Font font = (Font) value;
+      return font.getName() + ',' + font.getStyle() + ',' + font.getSize2D();
+    }
+
+    if (value instanceof Insets || value instanceof Dimension || value instanceof String || value instanceof Number ||
+        value instanceof Boolean)
+      return value.toString();
+
+    return null;
+  }
+
+  private static double getScreenScale() {
+    if (GraphicsEnvironment.isHeadless())
+      return 1;
+
+    return GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration()
+        .getDefaultTransform().getScaleX();
+  }
+
+  /**
+   * Returns the estimation for a key, reading it from the directory if it's not in memory.
+   *
+   * @return the estimation, null if there is no estimation for the key
+   */
+  static Object[] get(String key) {
+    Object[] estimation = (Object[]) estimations.get(key);
+
+    if (estimation == null && directory != null) {
+      estimation = read(key);
+
+      if (estimation != null)
+        estimations.put(key, estimation);
+    }
+
+    return estimation;
+  }
+
+  /**
+   * Stores an estimation in memory and in the directory. The estimation is an array of Insets, Dimension, int, Color
+   * and boolean arrays.
+   */
+  static void put(String key, Object[] estimation) {
+    estimations.put(key, estimation);
+
+    if (directory != null)
+      write(key, estimation);
+  }
+
+  private static Object[] read(String key) {
+    File file = getFile(key);
+
+    if (!file.exists())
+      return null;
+
+    try {
+      DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+
+      try {
+        if (in.readInt() != SERIALIZE_VERSION || in.readInt() != key.length())
+          return null;
+
+        for (int i = 0; i < key.length(); i++)
+          if (in.readChar() != key.charAt(i))
+            return null;
+
+        int count = in.readInt();
+
+        if (count < 0 || count > MAX_ARRAY_COUNT)
+          return null;
+
+        Object[] estimation = new Object[count];
+
+        for (int i = 0; i < count; i++) {
+          estimation[i] = readArray(in);
+
+          if (estimation[i] == null)
+            return null;
+        }
+
+        return estimation;
+      }
+      finally {
+        in.close();
+      }
+    }
+    catch (IOException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Reads an array written by {@link #writeArray(DataOutputStream, Object)}.
+   *
+   * @return the array, null if the data is invalid
+   */
+  private static Object readArray(DataInputStream in) throws IOException {
+    int type = in.readByte();
+    int length = in.readInt();
+
+    if (length < 0 || length > MAX_ARRAY_LENGTH)
+      return null;
+
+    switch (type) {
+      case INSETS:
+        Insets[] insets = new Insets[length];
+
+        for (int i = 0; i < length; i++)
+          insets[i] = new Insets(in.readInt(), in.readInt(), in.readInt(), in.readInt());
+
+        return insets;
+
+      case DIMENSION:
+        Dimension[] dimensions = new Dimension[length];
+
+        for (int i = 0; i < length; i++)
+          dimensions[i] = new Dimension(in.readInt(), in.readInt());
+
+        return dimensions;
+
+      case INT:
+        int[] ints = new int[length];
+
+        for (int i = 0; i < length; i++)
+          ints[i] = in.readInt();
+
+        return ints;
+
+      case COLOR:
+        Color[] colors = new Color[length];
+
+        for (int i = 0; i < length; i++)
+          colors[i] = in.readBoolean() ? new Color(in.readInt(), true) : null;
+
+        return colors;
+
+      case BOOLEAN:
+        boolean[] booleans = new boolean[length];
+
+        for (int i = 0; i < length; i++)
+          booleans[i] = in.readBoolean();
+
+        return booleans;
+
+      default:
+        return null;
+    }
+  }
+
+  private static void write(String key, Object[] estimation) {
+    File file = getFile(key);
+
+    try {
+      directory.mkdirs();
+      DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+
+      try {
+        out.writeInt(SERIALIZE_VERSION);
+        out.writeInt(key.length());
+        out.writeChars(key);
+        out.writeInt(estimation.length);
+
+        for (int i = 0; i < estimation.length; i++)
+          writeArray(out, estimation[i]);
+      }
+      finally {
+        out.close();
+      }
+    }
+    catch (IOException e) {
+      // Ignore, the estimation is made again next time
+      file.delete();
+    }
+  }
+
+  /**
+   * Writes an array as a type, a length and the primitive values of the elements. Only colors can be null.
+   *
+   * @throws IOException if the array type isn't supported or if writing fails
+   */
+  private static void writeArray(DataOutputStream out, Object array) throws IOException {
+    if (array instanceof Insets[]) {
+      Insets[] insets = (Insets[]) array;
+      writeArrayHeader(out, INSETS, insets.length);
+
+      for (int i = 0; i < insets.length; i++) {
+        if (insets[i] == null)
+          throw new IOException("Null insets");
+
+        out.writeInt(insets[i].top);
+        out.writeInt(insets[i].left);
+        out.writeInt(insets[i].bottom);
+        out.writeInt(insets[i].right);
+      }
+    }
+    else if (array instanceof Dimension[]) {
+      Dimension[] dimensions = (Dimension[]) array;
+      writeArrayHeader(out, DIMENSION, dimensions.length);
+
+      for (int i = 0; i < dimensions.length; i++) {
+        if (dimensions[i] == null)
+          throw new IOException("Null dimension");
+
+        out.writeInt(dimensions[i].width);
+        out.writeInt(dimensions[i].height);
+      }
+    }
+    else if (array instanceof int[]) {
+      int[] ints = (int[]) array;
+      writeArrayHeader(out, INT, ints.length);
+
+      for (int i = 0; i < ints.length; i++)
+        out.writeInt(ints[i]);
+    }
+    else if (array instanceof Color[]) {
+      Color[] colors = (Color[]) array;
+      writeArrayHeader(out, COLOR, colors.length);
+
+      for (int i = 0; i < colors.length; i++) {
+        out.writeBoolean(colors[i] != null);
+
+        if (colors[i] != null)
+          out.writeInt(colors[i].getRGB());
+      }
+    }
+    else if (array instanceof boolean[]) {
+      boolean[] booleans = (boolean[]) array;
+      writeArrayHeader(out, BOOLEAN, booleans.length);
+
+      for (int i = 0; i < booleans.length; i++)
+        out.writeBoolean(booleans[i]);
+    }
+    else
+      throw new IOException("Unsupported estimation value: " + array);
+  }
+
+  private static void writeArrayHeader(DataOutputStream out, int type, int length) throws IOException {
+    out.writeByte(type);
+    out.writeInt(length);
+  }
+
+  private static File getFile(String key) {
+    return new File(directory, FILE_PREFIX + Integer.toHexString(key.hashCode()) + FILE_SUFFIX);
+  }
+}
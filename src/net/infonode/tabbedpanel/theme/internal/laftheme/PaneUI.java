@@ -25,8 +25,8 @@ package net.infonode.tabbedpanel.theme.internal.laftheme;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.awt.image.FilteredImageSource;
-import java.awt.image.RGBImageFilter;
+import java.io.File;
+import java.lang.reflect.Array;
 
 import javax.swing.Icon;
 import javax.swing.JPanel;
@@ -127,6 +127,14 @@ public class PaneUI {
     this.listener = listener;
   }
 
+  public static File getEstimationDirectory() {
+    return EstimationCache.getDirectory();
+  }
+
+  public static void setEstimationDirectory(File directory) {
+    EstimationCache.setDirectory(directory);
+  }
+
   public void init() {
     paneHandler.update();
   }
@@ -134,15 +142,57 @@ public class PaneUI {
   private void doInit() {
     initPreCommonValues();
 
-    for (int i = 0; i < DIRECTIONS.length; i++) {
-      PanePainter pane = paneHandler.getPainter(DIRECTIONS[i]);
-      initValues(pane, i, DIRECTIONS[i]);
-      reset(pane);
+    String key = EstimationCache.createKey();
+    Object[] estimation = EstimationCache.get(key);
+
+    if (estimation == null || !setEstimation(estimation)) {
+      for (int i = 0; i < DIRECTIONS.length; i++) {
+        PanePainter pane = paneHandler.getPainter(DIRECTIONS[i]);
+        initValues(pane, i, DIRECTIONS[i]);
+        reset(pane);
+      }
+
+      EstimationCache.put(key, getEstimation());
     }
 
     initPostCommonValues();
   }
 
+  private Object[] getEstimationArrays() {
+    return new Object[]{areaInsets, normalInsets, selectedInsets, adjustedContentInsets,
+                        adjustedContentInsetsTabAreaHidden, contentInsets, minimumSizes, tabMinimumSizes, spacings,
+                        raiseds, tabInsets, contentTabAreaBorderColors, swapWidthHeights};
+  }
+
+  private Object[] getEstimation() {
+    return new Object[]{areaInsets.clone(), normalInsets.clone(), selectedInsets.clone(), adjustedContentInsets.clone(),
+                        adjustedContentInsetsTabAreaHidden.clone(), contentInsets.clone(), minimumSizes.clone(),
+                        tabMinimumSizes.clone(), spacings.clone(), raiseds.clone(), tabInsets.clone(),
+                        contentTabAreaBorderColors.clone(), swapWidthHeights.clone()};
+  }
+
+  /**
+   * Copies the values of an estimation if it contains arrays of the same types and lengths as the estimated values.
+   *
+   * @return true if the estimation was copied, otherwise false
+   */
+  private boolean setEstimation(Object[] estimation) {
+    Object[] arrays = getEstimationArrays();
+
+    if (estimation.length != arrays.length)
+      return false;
+
+    for (int i = 0; i < arrays.length; i++)
+      if (estimation[i] == null || estimation[i].getClass() != arrays[i].getClass() ||
+          Array.getLength(estimation[i]) != DIRECTIONS.length)
+        return false;
+
+    for (int i = 0; i < arrays.length; i++)
+      System.arraycopy(estimation[i], 0, arrays[i], 0, DIRECTIONS.length);
+
+    return true;
+  }
+
   public void dispose() {
     enabled = false;
     paneHandler.dispose();
@@ -450,7 +500,7 @@ public class PaneUI {
     }
   }
 
-  private void estimateContentTabAreaBorderColor(PanePainter pane, int index, final Direction direction) {
+  private void estimateContentTabAreaBorderColor(PanePainter pane, int index, Direction direction) {
     Dimension preSize = pane.getSize();
 
     reset(pane);
@@ -492,28 +542,12 @@ public class PaneUI {
       y = tabBounds.y + (tabBounds.height / 2);
     }
 
-    final int px = x;
-    final int py = y;
-
-    RGBImageFilter colorFilter = new RGBImageFilter() {
-      public int filterRGB(int x, int y, int rgb) {
-        if (px == x && py == y) {
-          int r = (rgb >> 16) & 0xff;
-          int g = (rgb >> 8) & 0xff;
-          int b = (rgb) & 0xff;
-          int a = (rgb >> 24) & 0xff;
-          contentTabAreaBorderColors[getDirectionIndex(direction.getOpposite())] = new Color(r, g, b, a);
-        }
-
-        return rgb;
-      }
-    };
-
-    FilteredImageSource source = new FilteredImageSource(img.getSource(), colorFilter);
-    pane.paint(img.getGraphics());
+    Graphics g = img.getGraphics();
+    pane.paint(g);
+    g.dispose();
 
-    BufferedImage img2 = new BufferedImage(pane.getWidth(), pane.getHeight(), BufferedImage.TYPE_INT_ARGB);
-    img2.getGraphics().drawImage(Toolkit.getDefaultToolkit().createImage(source), 0, 0, null);
+    if (x >= 0 && y >= 0 && x < img.getWidth() && y < img.getHeight())
+      contentTabAreaBorderColors[getDirectionIndex(direction.getOpposite())] = new Color(img.getRGB(x, y), true);
 
     pane.setSize(preSize);
 
@@ -48,6 +48,7 @@ import net.infonode.gui.hover.HoverListener;
 import net.infonode.gui.hover.hoverable.HoverManager;
 import net.infonode.gui.hover.hoverable.Hoverable;
 import net.infonode.gui.icon.IconProvider;
+import net.infonode.gui.layout.LayoutUtil;
 import net.infonode.gui.layout.StackableLayout;
 import net.infonode.gui.panel.SimplePanel;
 import net.infonode.gui.shaped.panel.ShapedPanel;
@@ -486,9 +487,17 @@ public class TitledTab extends Tab implements IconProvider {
     return eventPanel.inside(p.x, p.y);
   }
 
-  private final StatePanel normalStatePanel;
-  private final StatePanel highlightedStatePanel;
-  private final StatePanel disabledStatePanel;
+  private static final int NORMAL_STATE = 0;
+  private static final int HIGHLIGHTED_STATE = 1;
+  private static final int DISABLED_STATE = 2;
+
+  private final StatePanel[] statePanels = new StatePanel[3];
+  private final JComponent[] titleComponents = new JComponent[3];
+  private final Border[] outerBorders = new Border[3];
+  private final Border[] innerBorders = new Border[3];
+  private final Dimension[] statePreferredSizes = new Dimension[3];
+  private final Dimension[] stateMinimumSizes = new Dimension[3];
+  private boolean lazyStatePanels;
 
   private ArrayList mouseListeners;
   private ArrayList mouseMotionListeners;
@@ -549,12 +558,25 @@ public class TitledTab extends Tab implements IconProvider {
     });
 
     focusBorder = new FocusBorder(this);
-    normalStatePanel = new StatePanel(focusBorder);
-    highlightedStatePanel = new StatePanel(focusBorder);
-    disabledStatePanel = new StatePanel(focusBorder);
+    lazyStatePanels = properties.getLazyStatePanels();
 
+    for (int i = 0; i < statePanels.length; i++)
+      if (i == NORMAL_STATE || !lazyStatePanels)
+        statePanels[i] = new StatePanel(focusBorder);
 
     layout = new StackableLayout(this) {
+      public Dimension preferredLayoutSize(Container parent) {
+        return !lazyStatePanels || usesSelectedComponentSize() ?
+               super.preferredLayoutSize(parent) :
+               LayoutUtil.add(getMaxStateSize(statePreferredSizes, true), parent.getInsets());
+      }
+
+      public Dimension minimumLayoutSize(Container parent) {
+        return !lazyStatePanels ?
+               super.minimumLayoutSize(parent) :
+               LayoutUtil.add(getMaxStateSize(stateMinimumSizes, false), parent.getInsets());
+      }
+
       public void layoutContainer(Container parent) {
         super.layoutContainer(parent);
         StatePanel visibleStatePanel = (StatePanel) getVisibleComponent();
@@ -564,9 +586,9 @@ public class TitledTab extends Tab implements IconProvider {
 
     setLayout(layout);
 
-    add(normalStatePanel);
-    add(highlightedStatePanel);
-    add(disabledStatePanel);
+    for (int i = 0; i < statePanels.length; i++)
+      if (statePanels[i] != null)
+        add(statePanels[i]);
 
     setText(text);
     setIcon(icon);
@@ -695,7 +717,7 @@ public class TitledTab extends Tab implements IconProvider {
    * @return title component or null if no title component
    */
   public JComponent getNormalStateTitleComponent() {
-    return normalStatePanel.getTitleComponent();
+    return titleComponents[NORMAL_STATE];
   }
 
   /**
@@ -704,7 +726,7 @@ public class TitledTab extends Tab implements IconProvider {
    * @return title component or null if no title component
    */
   public JComponent getHighlightedStateTitleComponent() {
-    return highlightedStatePanel.getTitleComponent();
+    return titleComponents[HIGHLIGHTED_STATE];
   }
 
   /**
@@ -713,7 +735,7 @@ public class TitledTab extends Tab implements IconProvider {
    * @return title component or null if no title component
    */
   public JComponent getDisabledStateTitleComponent() {
-    return disabledStatePanel.getTitleComponent();
+    return titleComponents[DISABLED_STATE];
   }
 
   /**
@@ -725,9 +747,8 @@ public class TitledTab extends Tab implements IconProvider {
    * @param titleComponent the title component or null for no title component
    */
   public void setTitleComponent(JComponent titleComponent) {
-    normalStatePanel.setTitleComponent(titleComponent, properties.getNormalProperties());
-    highlightedStatePanel.setTitleComponent(titleComponent, properties.getHighlightedProperties());
-    disabledStatePanel.setTitleComponent(titleComponent, properties.getDisabledProperties());
+    for (int i = 0; i < statePanels.length; i++)
+      setStateTitleComponent(i, titleComponent);
   }
 
   /**
@@ -736,7 +757,7 @@ public class TitledTab extends Tab implements IconProvider {
    * @param titleComponent the title component or null for no title component
    */
   public void setNormalStateTitleComponent(JComponent titleComponent) {
-    normalStatePanel.setTitleComponent(titleComponent, properties.getNormalProperties());
+    setStateTitleComponent(NORMAL_STATE, titleComponent);
   }
 
   /**
@@ -745,7 +766,7 @@ public class TitledTab extends Tab implements IconProvider {
    * @param titleComponent the title component or null for no title component
    */
   public void setHighlightedStateTitleComponent(JComponent titleComponent) {
-    highlightedStatePanel.setTitleComponent(titleComponent, properties.getHighlightedProperties());
+    setStateTitleComponent(HIGHLIGHTED_STATE, titleComponent);
   }
 
   /**
@@ -754,7 +775,15 @@ public class TitledTab extends Tab implements IconProvider {
    * @param titleComponent the title component or null for no title component
    */
   public void setDisabledStateTitleComponent(JComponent titleComponent) {
-    disabledStatePanel.setTitleComponent(titleComponent, properties.getDisabledProperties());
+    setStateTitleComponent(DISABLED_STATE, titleComponent);
+  }
+
+  private void setStateTitleComponent(int state, JComponent titleComponent) {
+    titleComponents[state] = titleComponent;
+    clearStateSizes();
+
+    if (statePanels[state] != null)
+      statePanels[state].setTitleComponent(titleComponent, getStateProperties(state));
   }
 
   /**
@@ -1004,9 +1033,16 @@ public class TitledTab extends Tab implements IconProvider {
         -normalLowered,
         maxInsets);
 
-    normalStatePanel.setBorders(normalBorder, innerNormalBorder);
-    highlightedStatePanel.setBorders(null, innerHighlightBorder);
-    disabledStatePanel.setBorders(normalBorder, innerDisabledBorder);
+    outerBorders[NORMAL_STATE] = normalBorder;
+    outerBorders[DISABLED_STATE] = normalBorder;
+    innerBorders[NORMAL_STATE] = innerNormalBorder;
+    innerBorders[HIGHLIGHTED_STATE] = innerHighlightBorder;
+    innerBorders[DISABLED_STATE] = innerDisabledBorder;
+    clearStateSizes();
+
+    for (int i = 0; i < statePanels.length; i++)
+      if (statePanels[i] != null)
+        statePanels[i].setBorders(outerBorders[i], innerBorders[i]);
   }
 
   private void doUpdateTab(Map changes) {
@@ -1053,12 +1089,33 @@ public class TitledTab extends Tab implements IconProvider {
         if (keySet.contains(TitledTabProperties.ENABLED)) {
           doSetEnabled(properties.getEnabled());
         }
+
+        if (keySet.contains(TitledTabProperties.LAZY_STATE_PANELS)) {
+          setLazyStatePanels(properties.getLazyStatePanels());
+        }
+
+        if (keySet.contains(TitledTabProperties.MINIMUM_SIZE_PROVIDER)) {
+          clearStateSizes();
+        }
       }
     }
 
-    updateBorders = normalStatePanel.updateState(changes, properties.getNormalProperties()) || updateBorders;
-    updateBorders = highlightedStatePanel.updateState(changes, properties.getHighlightedProperties()) || updateBorders;
-    updateBorders = disabledStatePanel.updateState(changes, properties.getDisabledProperties()) || updateBorders;
+    for (int i = 0; i < statePanels.length; i++) {
+      TitledTabStateProperties stateProperties = getStateProperties(i);
+
+      if (changes != null && (changes.containsKey(stateProperties.getMap()) ||
+                              changes.containsKey(stateProperties.getComponentProperties().getMap()) ||
+                              changes.containsKey(stateProperties.getShapedPanelProperties().getMap()))) {
+        statePreferredSizes[i] = null;
+        stateMinimumSizes[i] = null;
+      }
+
+      if (statePanels[i] != null)
+        updateBorders = statePanels[i].updateState(changes, stateProperties) || updateBorders;
+      else if (changes != null && (changes.containsKey(stateProperties.getMap()) ||
+                                   changes.containsKey(stateProperties.getComponentProperties().getMap())))
+        updateBorders = true;
+    }
 
     if (updateBorders)
       updateBorders();
@@ -1105,18 +1162,104 @@ public class TitledTab extends Tab implements IconProvider {
       lastTabAreaOrientation = newDirection;
       updateBorders();
 
-      normalStatePanel.updateShapedPanel(properties.getNormalProperties());
-      highlightedStatePanel.updateShapedPanel(properties.getHighlightedProperties());
-      disabledStatePanel.updateShapedPanel(properties.getDisabledProperties());
+      for (int i = 0; i < statePanels.length; i++)
+        if (statePanels[i] != null)
+          statePanels[i].updateShapedPanel(getStateProperties(i));
+    }
+  }
+
+  private TitledTabStateProperties getStateProperties(int state) {
+    return state == HIGHLIGHTED_STATE ? properties.getHighlightedProperties() :
+           state == DISABLED_STATE ? properties.getDisabledProperties() :
+           properties.getNormalProperties();
+  }
+
+  private StatePanel getStatePanel(int state) {
+    if (statePanels[state] == null) {
+      statePanels[state] = createStatePanel(state);
+      add(statePanels[state]);
     }
+
+    return statePanels[state];
+  }
+
+  private StatePanel createStatePanel(int state) {
+    TitledTabStateProperties stateProperties = getStateProperties(state);
+    StatePanel statePanel = new StatePanel(focusBorder);
+    statePanel.setTitleComponent(titleComponents[state], stateProperties);
+    statePanel.updateState(null, stateProperties);
+    statePanel.setBorders(outerBorders[state], innerBorders[state]);
+    return statePanel;
+  }
+
+  /**
+   * Measures the sizes of a state that has no panel using a temporary panel that is not added to this tab. The tab
+   * borders depend on the parent tab, so the temporary panel gets an inner border with the insets the border has in this
+   * tab. The sizes are kept until the properties of the state or the borders change.
+   */
+  private void measureStateSizes(int state) {
+    StatePanel statePanel = createStatePanel(state);
+    statePanel.setBorders(outerBorders[state], new EmptyBorder(getBorderInsets(innerBorders[state])));
+    statePreferredSizes[state] = statePanel.getPreferredSize();
+    stateMinimumSizes[state] = statePanel.getMinimumSize();
+    statePanel.setTitleComponent(null, getStateProperties(state));
+
+    if (currentStatePanel != null)
+      currentStatePanel.activateTitleComponent();
+  }
+
+  private void releaseInactiveStatePanels() {
+    for (int i = 0; i < statePanels.length; i++) {
+      if (i != NORMAL_STATE && statePanels[i] != null && statePanels[i] != currentStatePanel) {
+        remove(statePanels[i]);
+        statePanels[i] = null;
+      }
+    }
+
+    if (currentStatePanel != null)
+      currentStatePanel.activateTitleComponent();
+  }
+
+  private void setLazyStatePanels(boolean lazyStatePanels) {
+    this.lazyStatePanels = lazyStatePanels;
+
+    if (lazyStatePanels)
+      releaseInactiveStatePanels();
+    else
+      for (int i = 0; i < statePanels.length; i++)
+        getStatePanel(i);
+
+    revalidate();
+  }
+
+  private void clearStateSizes() {
+    for (int i = 0; i < statePanels.length; i++) {
+      statePreferredSizes[i] = null;
+      stateMinimumSizes[i] = null;
+    }
+  }
+
+  private Dimension getMaxStateSize(Dimension[] sizes, boolean preferred) {
+    int width = 0;
+    int height = 0;
+
+    for (int i = 0; i < statePanels.length; i++) {
+      if (statePanels[i] != null)
+        sizes[i] = preferred ? statePanels[i].getPreferredSize() : statePanels[i].getMinimumSize();
+      else if (sizes[i] == null)
+        measureStateSizes(i);
+
+      width = Math.max(width, sizes[i].width);
+      height = Math.max(height, sizes[i].height);
+    }
+
+    return new Dimension(width, height);
   }
 
   private void updateCurrentStatePanel() {
-    StatePanel newStatePanel = normalStatePanel;
-    if (!isEnabled())
-      newStatePanel = disabledStatePanel;
-    else if (isHighlighted())
-      newStatePanel = highlightedStatePanel;
+    StatePanel newStatePanel = getStatePanel(!isEnabled() ? DISABLED_STATE :
+                                             isHighlighted() ? HIGHLIGHTED_STATE :
+                                             NORMAL_STATE);
 
     eventPanel.setToolTipText(newStatePanel.getToolTipText());
 
@@ -1127,6 +1270,9 @@ public class TitledTab extends Tab implements IconProvider {
       currentStatePanel.activate();
     }
     layout.showComponent(currentStatePanel);
+
+    if (lazyStatePanels)
+      releaseInactiveStatePanels();
   }
 
   private MouseEvent convertMouseEvent(MouseEvent e) {
@@ -200,6 +200,18 @@ public class TitledTabProperties extends PropertyMapContainer {
                                                                        "TitledTab enabled or disabled",
                                                                         PropertyMapValueHandler.INSTANCE);
 
+  /**
+   * Lazy state panels property
+   *
+   * @see #setLazyStatePanels
+   * @see #getLazyStatePanels
+   * @since IDW 1.7.0
+   */
+  public static final BooleanProperty LAZY_STATE_PANELS = new BooleanProperty(PROPERTIES,
+                                                                              "Lazy State Panels",
+                                                                              "Creates the components for the highlighted and disabled states only when they are shown.",
+                                                                              PropertyMapValueHandler.INSTANCE);
+
   private static final TitledTabProperties DEFAULT_VALUES = new TitledTabProperties(PROPERTIES.getDefaultMap());
 
   static {
@@ -274,6 +286,10 @@ public class TitledTabProperties extends PropertyMapContainer {
     updateFunctionalProperties();
   }
 
+  private TitledTabStateProperties normalProperties;
+  private TitledTabStateProperties highlightedProperties;
+  private TitledTabStateProperties disabledProperties;
+
   /**
    * Constructs an empty TitledTabProperties object
    */
@@ -360,7 +376,10 @@ public class TitledTabProperties extends PropertyMapContainer {
    * @return the normal state properties
    */
   public TitledTabStateProperties getNormalProperties() {
-    return new TitledTabStateProperties(NORMAL_PROPERTIES.get(getMap()));
+    if (normalProperties == null)
+      normalProperties = new TitledTabStateProperties(NORMAL_PROPERTIES.get(getMap()));
+
+    return normalProperties;
   }
 
   /**
@@ -369,7 +388,10 @@ public class TitledTabProperties extends PropertyMapContainer {
    * @return the highlighted state properties
    */
   public TitledTabStateProperties getHighlightedProperties() {
-    return new TitledTabStateProperties(HIGHLIGHTED_PROPERTIES.get(getMap()));
+    if (highlightedProperties == null)
+      highlightedProperties = new TitledTabStateProperties(HIGHLIGHTED_PROPERTIES.get(getMap()));
+
+    return highlightedProperties;
   }
 
   /**
@@ -378,7 +400,10 @@ public class TitledTabProperties extends PropertyMapContainer {
    * @return the disabled state properties
    */
   public TitledTabStateProperties getDisabledProperties() {
-    return new TitledTabStateProperties(DISABLED_PROPERTIES.get(getMap()));
+    if (disabledProperties == null)
+      disabledProperties = new TitledTabStateProperties(DISABLED_PROPERTIES.get(getMap()));
+
+    return disabledProperties;
   }
 
   /**
@@ -554,6 +579,38 @@ public class TitledTabProperties extends PropertyMapContainer {
     return ENABLED.get(getMap());
   }
 
+  /**
+   * <p>
+   * Sets if the components for the highlighted and disabled states should be created only when the tab is in that
+   * state. When the tab leaves the state the components are released. This reduces the number of components for tabbed
+   * panels with a large number of tabs.
+   * </p>
+   *
+   * <p>
+   * <strong>Note:</strong> With the equal size policy the tab size only includes the sizes of the states that have
+   * been shown since the properties were last changed.
+   * </p>
+   *
+   * @param value true for lazy state panels, otherwise false
+   * @return this TitledTabProperties
+   * @since IDW 1.7.0
+   */
+  public TitledTabProperties setLazyStatePanels(boolean value) {
+    LAZY_STATE_PANELS.set(getMap(), value);
+
+    return this;
+  }
+
+  /**
+   * Gets if the components for the highlighted and disabled states are created only when the tab is in that state.
+   *
+   * @return true for lazy state panels, otherwise false
+   * @since IDW 1.7.0
+   */
+  public boolean getLazyStatePanels() {
+    return LAZY_STATE_PANELS.get(getMap());
+  }
+
   /**
    * <p>Sets the hover listener that will be triggered when the tab is hovered by the mouse.</p>
    *
@@ -609,7 +666,7 @@ public class TitledTabProperties extends PropertyMapContainer {
 
   private static void updateFunctionalProperties() {
     DEFAULT_VALUES.setEnabled(true).setFocusable(true).setFocusMarkerEnabled(true).setSizePolicy(TitledTabSizePolicy.EQUAL_SIZE)
-        .setBorderSizePolicy(TitledTabBorderSizePolicy.EQUAL_SIZE).setHighlightedRaised(2);
+        .setBorderSizePolicy(TitledTabBorderSizePolicy.EQUAL_SIZE).setHighlightedRaised(2).setLazyStatePanels(false);
 
     DEFAULT_VALUES.getNormalProperties().setHorizontalAlignment(Alignment.LEFT).setVerticalAlignment(Alignment.CENTER)
         .setIconTextRelativeAlignment(Alignment.LEFT).setTitleComponentTextRelativeAlignment(Alignment.RIGHT)
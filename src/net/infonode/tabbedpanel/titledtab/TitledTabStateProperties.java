@@ -232,6 +232,9 @@ public class TitledTabStateProperties extends PropertyMapContainer {
                                                                                             "Tab shaped panel properties.",
                                                                                             ShapedPanelProperties.PROPERTIES);
 
+  private ComponentProperties componentProperties;
+  private ShapedPanelProperties shapedPanelProperties;
+
   /**
    * Constructs an empty TitledTabStateProperties object
    */
@@ -587,7 +590,10 @@ public class TitledTabStateProperties extends PropertyMapContainer {
    * @return component properties
    */
   public ComponentProperties getComponentProperties() {
-    return new ComponentProperties(COMPONENT_PROPERTIES.get(getMap()));
+    if (componentProperties == null)
+      componentProperties = new ComponentProperties(COMPONENT_PROPERTIES.get(getMap()));
+
+    return componentProperties;
   }
 
   /**
@@ -597,6 +603,9 @@ public class TitledTabStateProperties extends PropertyMapContainer {
    * @since ITP 1.2.0
    */
   public ShapedPanelProperties getShapedPanelProperties() {
-    return new ShapedPanelProperties(SHAPED_PANEL_PROPERTIES.get(getMap()));
+    if (shapedPanelProperties == null)
+      shapedPanelProperties = new ShapedPanelProperties(SHAPED_PANEL_PROPERTIES.get(getMap()));
+
+    return shapedPanelProperties;
   }
 }
@@ -0,0 +1,295 @@
+/*
+ * Copyright (C) 2004 NNL Technology AB
+ * Visit www.infonode.net for information about InfoNode(R) 
+ * products and how to contact NNL Technology AB.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, 
+ * MA 02111-1307, USA.
+ */
+
+
+package net.infonode.util;
+
+import java.awt.*;
+import java.io.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+
+/**
+ * <p>
+ * An object input stream that reads data written by a {@link CompactObjectOutputStream}. It can be used everywhere an
+ * {@link ObjectInputStream} is expected, for example when reading the state of a root window or a property map.
+ * </p>
+ *
+ * <p>
+ * Objects that were written using Java serialization are only read if they consist of classes in the
+ * <tt>net.infonode</tt> packages and of the JDK classes used for property values, like fonts, colors, insets, Swing
+ * borders and icons. Other classes are rejected with an {@link InvalidClassException}.
+ * </p>
+ *
+ * @author $Author: jesper $
+ * @version $Revision: 1.1 $
+ * @since IDW 1.7.0
+ */
+public class CompactObjectInputStream extends ObjectInputStream {
+  private static final String[] ALLOWED_PACKAGES = {"net.infonode.", "javax.swing.border.", "javax.swing.plaf."};
+
+  private static final HashSet ALLOWED_CLASSES = new HashSet(Arrays.asList(new String[]{
+      "java.lang.Boolean", "java.lang.Byte", "java.lang.Character", "java.lang.Short", "java.lang.Integer",
+      "java.lang.Long", "java.lang.Float", "java.lang.Double", "java.lang.Number", "java.lang.String",
+      "java.lang.Enum", "java.util.Hashtable", "java.text.AttributedCharacterIterator$Attribute",
+      "java.awt.font.TextAttribute", "java.awt.Color", "java.awt.SystemColor", "java.awt.Font", "java.awt.Insets",
+      "java.awt.Dimension", "java.awt.Point", "java.awt.Rectangle", "javax.swing.ImageIcon"}));
+
+  private final DataInputStream in;
+  private final ArrayList strings = new ArrayList();
+  private final int formatVersion;
+
+  /**
+   * Creates a stream that reads from an input stream.
+   *
+   * @param in the stream to read from
+   * @throws IOException if there is a stream error or if the data is not in the compact format
+   */
+  public CompactObjectInputStream(InputStream in) throws IOException {
+    super();
+    this.in = new DataInputStream(in);
+
+    if (this.in.readInt() != CompactObjectOutputStream.MAGIC)
+      throw new StreamCorruptedException("Invalid compact stream header!");
+
+    formatVersion = readVarInt();
+
+    if (formatVersion < 1 || formatVersion > CompactObjectOutputStream.FORMAT_VERSION)
+      throw new StreamCorruptedException("Unsupported compact stream version " + formatVersion + "!");
+  }
+
+  /**
+   * Returns true if the data starts with a compact stream header.
+   *
+   * @param data the data
+   * @return true if the data starts with a compact stream header
+   */
+  public static boolean isCompact(byte[] data) {
+    return data.length >= 4 &&
+           ((data[0] & 0xff) << 24 | (data[1] & 0xff) << 16 | (data[2] & 0xff) << 8 | (data[3] & 0xff)) ==
+           CompactObjectOutputStream.MAGIC;
+  }
+
+  /**
+   * Returns the format version of the data in this stream.
+   *
+   * @return the format version of the data in this stream
+   */
+  public int getFormatVersion() {
+    return formatVersion;
+  }
+
+  private int readVarInt() throws IOException {
+    int value = 0;
+
+    for (int shift = 0; shift < 35; shift += 7) {
+      int b = in.readUnsignedByte();
+      value |= (b & 0x7f) << shift;
+
+      if ((b & 0x80) == 0)
+        return value;
+    }
+
+    throw new StreamCorruptedException("Invalid variable length integer!");
+  }
+
+  private long readVarLong() throws IOException {
+    long value = 0;
+
+    for (int shift = 0; shift < 70; shift += 7) {
+      int b = in.readUnsignedByte();
+      value |= (long) (b & 0x7f) << shift;
+
+      if ((b & 0x80) == 0)
+        return value;
+    }
+
+    throw new StreamCorruptedException("Invalid variable length integer!");
+  }
+
+  public int read() throws IOException {
+    return in.read();
+  }
+
+  public int read(byte[] buf, int off, int len) throws IOException {
+    return in.read(buf, off, len);
+  }
+
+  public int available() throws IOException {
+    return in.available();
+  }
+
+  public void readFully(byte[] buf) throws IOException {
+    in.readFully(buf);
+  }
+
+  public void readFully(byte[] buf, int off, int len) throws IOException {
+    in.readFully(buf, off, len);
+  }
+
+  public int skipBytes(int len) throws IOException {
+    return in.skipBytes(len);
+  }
+
+  public boolean readBoolean() throws IOException {
+    return in.readBoolean();
+  }
+
+  public byte readByte() throws IOException {
+    return in.readByte();
+  }
+
+  public int readUnsignedByte() throws IOException {
+    return in.readUnsignedByte();
+  }
+
+  public short readShort() throws IOException {
+    return (short) readInt();
+  }
+
+  public int readUnsignedShort() throws IOException {
+    return readInt() & 0xffff;
+  }
+
+  public char readChar() throws IOException {
+    return (char) readVarInt();
+  }
+
+  public int readInt() throws IOException {
+    int value = readVarInt();
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  public long readLong() throws IOException {
+    long value = readVarLong();
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  public float readFloat() throws IOException {
+    return in.readFloat();
+  }
+
+  public double readDouble() throws IOException {
+    return in.readDouble();
+  }
+
+  /**
+   * @deprecated This method does not properly convert bytes to characters, use {@link #readUTF} instead.
+   */
+  @Deprecated
+  public String readLine() throws IOException {
+    return in.readLine();
+  }
+
+  public String readUTF() throws IOException {
+    int index = readVarInt();
+
+    if (index == 0) {
+      String str = in.readUTF();
+      strings.add(str);
+      return str;
+    }
+
+    if (index > strings.size())
+      throw new StreamCorruptedException("Invalid string reference " + index + "!");
+
+    return (String) strings.get(index - 1);
+  }
+
+  public Object readUnshared() throws IOException, ClassNotFoundException {
+    return readObjectOverride();
+  }
+
+  protected Object readObjectOverride() throws IOException, ClassNotFoundException {
+    int type = in.readUnsignedByte();
+
+    switch (type) {
+      case CompactObjectOutputStream.NULL_OBJECT:
+        return null;
+
+      case CompactObjectOutputStream.STRING_OBJECT:
+        return readUTF();
+
+      case CompactObjectOutputStream.INTEGER_OBJECT:
+        return Integer.valueOf(readInt());
+
+      case CompactObjectOutputStream.BOOLEAN_OBJECT:
+        return Boolean.valueOf(in.readBoolean());
+
+      case CompactObjectOutputStream.COLOR_OBJECT:
+        return new Color(in.readInt(), true);
+
+      case CompactObjectOutputStream.SERIALIZED_OBJECT:
+        byte[] data = new byte[readVarInt()];
+        in.readFully(data);
+        return new ObjectInputStream(new ByteArrayInputStream(data)) {
+          protected Class resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            if (!isAllowedClass(desc.getName()))
+              throw new InvalidClassException(desc.getName(), "Class is not allowed in a compact stream!");
+
+            return super.resolveClass(desc);
+          }
+
+          protected Class resolveProxyClass(String[] interfaces) throws IOException {
+            throw new InvalidClassException("Proxy classes are not allowed in a compact stream!");
+          }
+        }.readObject();
+
+      default:
+        throw new StreamCorruptedException("Invalid object type " + type + "!");
+    }
+  }
+
+  private static boolean isAllowedClass(String name) {
+    // Array classes are allowed if the component type is a primitive or an allowed class
+    int dimensions = 0;
+
+    while (dimensions < name.length() && name.charAt(dimensions) == '[')
+      dimensions++;
+
+    if (dimensions > 0) {
+      if (name.length() == dimensions + 1)
+        return "ZBCSIJFD".indexOf(name.charAt(dimensions)) != -1;
+
+      if (name.charAt(dimensions) != 'L' || !name.endsWith(";"))
+        return false;
+
+      name = name.substring(dimensions + 1, name.length() - 1);
+
+      if (name.equals("java.lang.Object"))
+        return true;
+    }
+
+    if (ALLOWED_CLASSES.contains(name))
+      return true;
+
+    for (int i = 0; i < ALLOWED_PACKAGES.length; i++)
+      if (name.startsWith(ALLOWED_PACKAGES[i]))
+        return true;
+
+    return false;
+  }
+
+  public void close() throws IOException {
+    in.close();
+  }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright (C) 2004 NNL Technology AB
+ * Visit www.infonode.net for information about InfoNode(R) 
+ * products and how to contact NNL Technology AB.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, 
+ * MA 02111-1307, USA.
+ */
+
+
+package net.infonode.util;
+
+import java.awt.*;
+import java.io.*;
+import java.util.HashMap;
+
+/**
+ * <p>
+ * An object output stream that writes a compact binary format instead of the Java serialization format. It can be used
+ * everywhere an {@link ObjectOutputStream} is expected, for example when writing the state of a root window or a
+ * property map. The data must be read with a {@link CompactObjectInputStream}.
+ * </p>
+ *
+ * <p>
+ * Integers are written as variable length values, strings written with {@link #writeUTF} are stored in a string table
+ * so that repeated strings, like property names and view id's, are only written once, and the common property value
+ * types are written without class descriptors. Other objects are written using Java serialization.
+ * </p>
+ *
+ * @author $Author: jesper $
+ * @version $Revision: 1.1 $
+ * @since IDW 1.7.0
+ */
+public class CompactObjectOutputStream extends ObjectOutputStream {
+  static final int MAGIC = 0x49445743;
+  static final int FORMAT_VERSION = 1;
+
+  static final int NULL_OBJECT = 0;
+  static final int STRING_OBJECT = 1;
+  static final int INTEGER_OBJECT = 2;
+  static final int BOOLEAN_OBJECT = 3;
+  static final int COLOR_OBJECT = 4;
+  static final int SERIALIZED_OBJECT = 5;
+
+  private final DataOutputStream out;
+  private final HashMap strings = new HashMap();
+
+  /**
+   * Creates a stream that writes to an output stream.
+   *
+   * @param out the stream to write to
+   * @throws IOException if there is a stream error
+   */
+  public CompactObjectOutputStream(OutputStream out) throws IOException {
+    super();
+    this.out = new DataOutputStream(out);
+    this.out.writeInt(MAGIC);
+    writeVarInt(FORMAT_VERSION);
+  }
+
+  private void writeVarInt(int value) throws IOException {
+    while ((value & ~0x7f) != 0) {
+      out.write((value & 0x7f) | 0x80);
+      value >>>= 7;
+    }
+
+    out.write(value);
+  }
+
+  private void writeVarLong(long value) throws IOException {
+    while ((value & ~0x7fL) != 0) {
+      out.write((int) (value & 0x7f) | 0x80);
+      value >>>= 7;
+    }
+
+    out.write((int) value);
+  }
+
+  public void write(int val) throws IOException {
+    out.write(val);
+  }
+
+  public void write(byte[] buf) throws IOException {
+    out.write(buf);
+  }
+
+  public void write(byte[] buf, int off, int len) throws IOException {
+    out.write(buf, off, len);
+  }
+
+  public void writeBoolean(boolean val) throws IOException {
+    out.writeBoolean(val);
+  }
+
+  public void writeByte(int val) throws IOException {
+    out.writeByte(val);
+  }
+
+  public void writeShort(int val) throws IOException {
+    writeInt((short) val);
+  }
+
+  public void writeChar(int val) throws IOException {
+    writeVarInt((char) val);
+  }
+
+  public void writeInt(int val) throws IOException {
+    writeVarInt((val << 1) ^ (val >> 31));
+  }
+
+  public void writeLong(long val) throws IOException {
+    writeVarLong((val << 1) ^ (val >> 63));
+  }
+
+  public void writeFloat(float val) throws IOException {
+    out.writeFloat(val);
+  }
+
+  public void writeDouble(double val) throws IOException {
+    out.writeDouble(val);
+  }
+
+  public void writeBytes(String str) throws IOException {
+    for (int i = 0; i < str.length(); i++)
+      write(str.charAt(i));
+  }
+
+  public void writeChars(String str) throws IOException {
+    for (int i = 0; i < str.length(); i++)
+      writeChar(str.charAt(i));
+  }
+
+  public void writeUTF(String str) throws IOException {
+    Integer index = (Integer) strings.get(str);
+
+    if (index != null)
+      writeVarInt(index.intValue() + 1);
+    else {
+      writeVarInt(0);
+      out.writeUTF(str);
+      strings.put(str, Integer.valueOf(strings.size()));
+    }
+  }
+
+  public void writeUnshared(Object obj) throws IOException {
+    writeObjectOverride(obj);
+  }
+
+  protected void writeObjectOverride(Object obj) throws IOException {
+    if (obj == null)
+      out.write(NULL_OBJECT);
+    else if (obj.getClass() == String.class) {
+      out.write(STRING_OBJECT);
+      writeUTF((String) obj);
+    }
+    else if (obj.getClass() == Integer.class) {
+      out.write(INTEGER_OBJECT);
+      writeInt(((Integer) obj).intValue());
+    }
+    else if (obj.getClass() == Boolean.class) {
+      out.write(BOOLEAN_OBJECT);
+      out.writeBoolean(((Boolean) obj).booleanValue());
+    }
+    else if (obj.getClass() == Color.class) {
+      out.write(COLOR_OBJECT);
+      out.writeInt(((Color) obj).getRGB());
+    }
+    else {
+      out.write(SERIALIZED_OBJECT);
+      byte[] data = StreamUtil.writeObject(obj);
+      writeVarInt(data.length);
+      out.write(data);
+    }
+  }
+
+  public void flush() throws IOException {
+    out.flush();
+  }
+
+  public void close() throws IOException {
+    out.close();
+  }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (C) 2004 NNL Technology AB
+ * Visit www.infonode.net for information about InfoNode(R) 
+ * products and how to contact NNL Technology AB.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, 
+ * MA 02111-1307, USA.
+ */
+
+
+package net.infonode.util;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+
+/**
+ * A {@link MetricsRecorder} that keeps the number of measurements, the total, the maximum and a histogram of the values
+ * for each name in memory. The histogram has one bucket for each power of two, so percentiles are reported as the
+ * upper bound of the bucket they fall in.
+ *
+ * @author $Author: jesper $
+ * @version $Revision: 1.1 $
+ * @since IDW 1.7.0
+ */
+public class InMemoryMetricsRecorder implements MetricsRecorder {
+  private static class Entry {
+    private final boolean time;
+    private long count;
+    private long total;
+    private long max;
+    private final long[] buckets = new long[64];
+
+    Entry(boolean time) {
+      this.time = time;
+    }
+
+    void add(long value) {
+      count++;
+      total += value;
+      max = Math.max(max, value);
+      buckets[value <= 0 ? 0 : 64 - Long.numberOfLeadingZeros(value) - 1]++;
+    }
+
+    long getPercentile(double percentile) {
+      long limit = (long) Math.ceil(count * percentile);
+      long sum = 0;
+
+      for (int i = 0; i < buckets.length; i++) {
+        sum += buckets[i];
+
+        if (sum >= limit)
+          return Math.min(max, i == 0 ? 1 : (1L << (i + 1)) - 1);
+      }
+
+      return max;
+    }
+  }
+
+  private final HashMap entries = new HashMap();
+
+  /**
+   * Constructor.
+   */
+  public InMemoryMetricsRecorder() {
+  }
+
+  public void recordTime(String name, long nanos) {
+    add(name, nanos, true);
+  }
+
+  public void recordCount(String name, long count) {
+    add(name, count, false);
+  }
+
+  private synchronized void add(String name, long value, boolean time) {
+    Entry entry = (Entry) entries.get(name);
+
+    if (entry == null) {
+      entry = new Entry(time);
+      entries.put(name, entry);
+    }
+
+    entry.add(value);
+  }
+
+  /**
+   * Returns the names that have been recorded, in alphabetical order.
+   *
+   * @return the names that have been recorded
+   */
+  public synchronized String[] getNames() {
+    ArrayList names = new ArrayList(entries.keySet());
+    Collections.sort(names);
+    return (String[]) names.toArray(new String[names.size()]);
+  }
+
+  /**
+   * Returns the number of measurements recorded for a name.
+   *
+   * @param name the name
+   * @return the number of measurements recorded for the name
+   */
+  public synchronized long getCount(String name) {
+    Entry entry = (Entry) entries.get(name);
+    return entry == null ? 0 : entry.count;
+  }
+
+  /**
+   * Returns the sum of the values recorded for a name.
+   *
+   * @param name the name
+   * @return the sum of the values recorded for the name
+   */
+  public synchronized long getTotal(String name) {
+    Entry entry = (Entry) entries.get(name);
+    return entry == null ? 0 : entry.total;
+  }
+
+  /**
+   * Returns the maximum value recorded for a name.
+   *
+   * @param name the name
+   * @return the maximum value recorded for the name
+   */
+  public synchronized long getMax(String name) {
+    Entry entry = (Entry) entries.get(name);
+    return entry == null ? 0 : entry.max;
+  }
+
+  /**
+   * Returns an approximation of a percentile of the values recorded for a name.
+   *
+   * @param name       the name
+   * @param percentile the percentile, between 0 and 1
+   * @return the upper bound of the histogram bucket containing the percentile
+   */
+  public synchronized long getPercentile(String name, double percentile) {
+    Entry entry = (Entry) entries.get(name);
+    return entry == null ? 0 : entry.getPercentile(percentile);
+  }
+
+  /**
+   * Removes all recorded measurements.
+   */
+  public synchronized void clear() {
+    entries.clear();
+  }
+
+  /**
+   * Prints all recorded measurements. Times are printed in microseconds.
+   *
+   * @param out the stream to print to
+   */
+  public synchronized void dump(PrintStream out) {
+    String[] names = getNames();
+
+    for (int i = 0; i < names.length; i++) {
+      Entry entry = (Entry) entries.get(names[i]);
+      long div = entry.time ? 1000 : 1;
+      out.println(names[i] + (entry.time ? " (us)" : "") +
+                  ": count=" + entry.count +
+                  " total=" + entry.total / div +
+                  " mean=" + entry.total / entry.count / div +
+                  " p50=" + entry.getPercentile(0.5) / div +
+                  " p90=" + entry.getPercentile(0.9) / div +
+                  " p99=" + entry.getPercentile(0.99) / div +
+                  " max=" + entry.max / div);
+    }
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2004 NNL Technology AB
+ * Visit www.infonode.net for information about InfoNode(R) 
+ * products and how to contact NNL Technology AB.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, 
+ * MA 02111-1307, USA.
+ */
+
+
+package net.infonode.util;
+
+/**
+ * Holds the global {@link MetricsRecorder} which receives measurements from subsystems that are not associated with a
+ * root window, for example property change notification and component painting.
+ *
+ * @author $Author: jesper $
+ * @version $Revision: 1.1 $
+ * @since IDW 1.7.0
+ */
+public class Metrics {
+  private static volatile MetricsRecorder recorder;
+
+  private Metrics() {
+  }
+
+  /**
+   * Returns the global metrics recorder.
+   *
+   * @return the global metrics recorder, null if there is none
+   */
+  public static MetricsRecorder getRecorder() {
+    return recorder;
+  }
+
+  /**
+   * Sets the global metrics recorder.
+   *
+   * @param recorder the global metrics recorder, null disables the measurements
+   */
+  public static void setRecorder(MetricsRecorder recorder) {
+    Metrics.recorder = recorder;
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (C) 2004 NNL Technology AB
+ * Visit www.infonode.net for information about InfoNode(R) 
+ * products and how to contact NNL Technology AB.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, 
+ * MA 02111-1307, USA.
+ */
+
+
+package net.infonode.util;
+
+/**
+ * Receives measurements from instrumented operations. A recorder is installed either globally using
+ * {@link Metrics#setRecorder(MetricsRecorder)} or for the docking operations in a root window using
+ * {@link net.infonode.docking.RootWindow#setMetricsRecorder(MetricsRecorder)}. No measurements are made when no
+ * recorder is installed.
+ * <p>
+ * The methods can be called from any thread, so implementations must be thread safe.
+ *
+ * @author $Author: jesper $
+ * @version $Revision: 1.1 $
+ * @see InMemoryMetricsRecorder
+ * @since IDW 1.7.0
+ */
+public interface MetricsRecorder {
+  /**
+   * Records the duration of an operation.
+   *
+   * @param name  the name of the operation
+   * @param nanos the duration in nanoseconds
+   */
+  void recordTime(String name, long nanos);
+
+  /**
+   * Records a count, for example the number of listeners notified by an operation.
+   *
+   * @param name  the name of the count
+   * @param count the count
+   */
+  void recordCount(String name, long count);
+}
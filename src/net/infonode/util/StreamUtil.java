@@ -78,6 +78,54 @@ public class StreamUtil {
     readable.read(new ObjectInputStream(new ByteArrayInputStream(data)));
   }
 
+  /**
+   * Writes the state of an object in the compact binary format written by {@link CompactObjectOutputStream}.
+   *
+   * @param writable the object to write
+   * @return the serialized data
+   * @throws IOException if there is a stream error
+   * @since IDW 1.7.0
+   */
+  public static byte[] writeCompact(Writable writable) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ObjectOutputStream o2 = new CompactObjectOutputStream(out);
+    writable.write(o2);
+    o2.close();
+    return out.toByteArray();
+  }
+
+  /**
+   * Reads the state of an object from data in the compact binary format or in the Java serialization format. The format
+   * is detected from the header of the data.
+   *
+   * @param data     the serialized data
+   * @param readable the object to read the state into
+   * @throws IOException if there is a stream error
+   * @since IDW 1.7.0
+   */
+  public static void readCompact(byte[] data, Readable readable) throws IOException {
+    if (CompactObjectInputStream.isCompact(data))
+      readable.read(new CompactObjectInputStream(new ByteArrayInputStream(data)));
+    else
+      read(data, readable);
+  }
+
+  /**
+   * Converts data written with {@link #write(Writable)} to the compact binary format. The data is read into the target
+   * object which is then written in the compact format, so the target should be a scratch object of the same type as
+   * the one that wrote the data, for example a root window created with the same view serializer.
+   *
+   * @param data   the data in the Java serialization format
+   * @param target the object used for the conversion
+   * @return the data in the compact binary format
+   * @throws IOException if there is a stream error
+   * @since IDW 1.7.0
+   */
+  public static <T extends Readable & Writable> byte[] convertToCompact(byte[] data, T target) throws IOException {
+    read(data, target);
+    return writeCompact(target);
+  }
+
   public static void readAll(InputStream in, byte[] data) throws IOException {
     readAll(in, data, 0, data.length);
   }
@@ -25,10 +25,11 @@ package net.infonode.util.signal;
 
 import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * @author $Author: jesper $
@@ -91,8 +92,15 @@ public class Signal {
     thread.start();
   }
 
+  private static final SignalListener[] NO_LISTENERS = new SignalListener[0];
+
   private boolean reverseNotifyOrder;
-  private CopyOnWriteArrayList<SignalListener> listeners;
+
+  /**
+   * Immutable snapshot of the listeners. A new array is published on every change so that {@link #emit} can notify the
+   * listeners without locking or copying.
+   */
+  private volatile SignalListener[] listeners = NO_LISTENERS;
   private SignalHookImpl signalHook = new SignalHookImpl();
 
   public Signal() {
@@ -110,24 +118,25 @@ public class Signal {
   }
 
   public synchronized void addListener(SignalListener listener) {
-    if (listeners == null)
-      listeners = new CopyOnWriteArrayList<SignalListener>();
+    SignalListener[] l = listeners;
+    SignalListener[] newListeners = new SignalListener[l.length + 1];
+    System.arraycopy(l, 0, newListeners, 0, l.length);
+    newListeners[l.length] = listener;
+    listeners = newListeners;
 
-    listeners.add(listener);
-
-    if (listeners.size() == 1)
+    if (newListeners.length == 1)
       firstListenerAdded();
   }
 
   public synchronized boolean removeListener(SignalListener listener) {
-    if (listeners != null) {
-      for (int i = 0; i < listeners.size(); i++) {
-        Object o = listeners.get(i);
+    SignalListener[] l = listeners;
 
-        if (o == listener || (o instanceof WeakListener && ((WeakListener) o).get() == listener)) {
-          removeListener(i);
-          return true;
-        }
+    for (int i = 0; i < l.length; i++) {
+      Object o = l[i];
+
+      if (o == listener || (o instanceof WeakListener && ((WeakListener) o).get() == listener)) {
+        removeListener(i);
+        return true;
       }
     }
 
@@ -135,63 +144,72 @@ public class Signal {
   }
 
   protected synchronized void removeWeakListener(WeakListener listener) {
-    if (listeners != null) {
-      for (int i = 0; i < listeners.size(); i++) {
-        Object o = listeners.get(i);
+    SignalListener[] l = listeners;
 
-        if (o == listener) {
-          removeListener(i);
-          break;
-        }
+    for (int i = 0; i < l.length; i++) {
+      if (l[i] == listener) {
+        removeListener(i);
+        break;
       }
     }
   }
 
   protected synchronized void removeListener(int index) {
-    listeners.remove(index);
+    SignalListener[] l = listeners;
 
-    if (listeners.size() == 0) {
-      listeners = null;
+    if (l.length == 1) {
+      listeners = NO_LISTENERS;
       lastListenerRemoved();
     }
+    else {
+      SignalListener[] newListeners = new SignalListener[l.length - 1];
+      System.arraycopy(l, 0, newListeners, 0, index);
+      System.arraycopy(l, index + 1, newListeners, index, newListeners.length - index);
+      listeners = newListeners;
+    }
   }
 
-  public synchronized boolean hasListeners() {
-    return listeners != null && listeners.size() > 0;
+  public boolean hasListeners() {
+    return listeners.length > 0;
   }
 
-  public synchronized Iterator iterator() {
-    return listeners == null ? Collections.emptyIterator() : listeners.iterator();
+  public Iterator iterator() {
+    SignalListener[] l = listeners;
+    return l.length == 0 ? Collections.emptyIterator() : Arrays.asList(l).iterator();
   }
 
   public SignalHook getHook() {
     return signalHook;
   }
 
-  public synchronized void emit(Object object) {
-    Object[] e;
-    int size;
-
-    synchronized (this) {
-      if (listeners == null)
-        return;
-
-      e = listeners.toArray();
-      size = listeners.size();
-    }
+  public void emit(Object object) {
+    SignalListener[] l = listeners;
 
     if (reverseNotifyOrder) {
-      for (int i = size - 1; i >= 0; i--)
-        ((SignalListener) e[i]).signalEmitted(this, object);
+      for (int i = l.length - 1; i >= 0; i--)
+        l[i].signalEmitted(this, object);
     }
     else {
-      for (int i = 0; i < size; i++)
-        ((SignalListener) e[i]).signalEmitted(this, object);
+      for (int i = 0; i < l.length; i++)
+        l[i].signalEmitted(this, object);
     }
   }
 
-  public void removeListeners(Collection toRemove) {
-    listeners.removeAll(toRemove);
+  public synchronized void removeListeners(Collection toRemove) {
+    SignalListener[] l = listeners;
+    ArrayList<SignalListener> remaining = new ArrayList<SignalListener>(l.length);
+
+    for (int i = 0; i < l.length; i++) {
+      if (!toRemove.contains(l[i]))
+        remaining.add(l[i]);
+    }
+
+    if (remaining.size() != l.length) {
+      listeners = remaining.isEmpty() ? NO_LISTENERS : remaining.toArray(new SignalListener[remaining.size()]);
+
+      if (remaining.isEmpty())
+        lastListenerRemoved();
+    }
   }
 
 }